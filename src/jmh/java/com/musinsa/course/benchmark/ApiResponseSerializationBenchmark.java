@@ -0,0 +1,50 @@
+package com.musinsa.course.benchmark;
+
+import com.musinsa.course.dto.ApiResponse;
+import com.musinsa.course.dto.CourseResponse;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link ApiResponse}로 감싼 강좌 목록의 JSON 직렬화 비용. 500은 GET /courses 전체 목록 크기.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int courseCount;
+
+    private JsonMapper jsonMapper;
+    private List<CourseResponse> courses;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        courses = BenchmarkFixtures.courses(courseCount, 2, new Random(BenchmarkFixtures.SEED)).stream()
+                .map(CourseResponse::new)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(ApiResponse.success(courses));
+    }
+}
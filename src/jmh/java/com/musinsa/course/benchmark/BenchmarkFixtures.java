@@ -0,0 +1,47 @@
+package com.musinsa.course.benchmark;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.CourseSchedule;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Department;
+import com.musinsa.course.domain.Professor;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 엔티티 생성기. DataInitializer와 같은 범위(월~금, 09:00~18:00, 90분 수업)를 고정 시드로 만든다.
+ */
+final class BenchmarkFixtures {
+
+    static final long SEED = 42L;
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+    private static final int LESSON_MINUTES = 90;
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Course> courses(int count, int slotsPerCourse, Random random) {
+        Department department = new Department("컴퓨터공학과");
+        Professor professor = new Professor("김교수", department);
+
+        List<Course> courses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Course course = new Course("자료구조 " + i, "BM" + i, 3, 30, department, professor);
+            for (int s = 0; s < slotsPerCourse; s++) {
+                course.addSchedule(randomSchedule(course, random));
+            }
+            courses.add(course);
+        }
+        return courses;
+    }
+
+    static CourseSchedule randomSchedule(Course course, Random random) {
+        DayOfWeek day = DAYS[random.nextInt(DAYS.length)];
+        // 09:00 ~ 16:30 시작, 30분 단위
+        LocalTime start = LocalTime.of(9, 0).plusMinutes(30L * random.nextInt(16));
+        return new CourseSchedule(course, day, start, start.plusMinutes(LESSON_MINUTES));
+    }
+}
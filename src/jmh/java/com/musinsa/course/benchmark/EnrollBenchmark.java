@@ -0,0 +1,88 @@
+package com.musinsa.course.benchmark;
+
+import com.musinsa.course.CourseApplication;
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.CourseSchedule;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Department;
+import com.musinsa.course.domain.Professor;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.CourseScheduleRepository;
+import com.musinsa.course.repository.DepartmentRepository;
+import com.musinsa.course.repository.ProfessorRepository;
+import com.musinsa.course.repository.StudentRepository;
+import com.musinsa.course.service.EnrollmentService;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 인메모리 H2에서 {@link EnrollmentService#enroll} 전체 경로(락, 검증, INSERT, 커밋) 비용.
+ *
+ * <p>측정을 반복해도 상태가 쌓이지 않도록 한 번의 호출에서 신청 후 바로 취소한다.
+ * 학생은 초기 데이터의 학생을 순서대로 돌려 쓰며, 강좌는 정원이 충분한 전용 강좌를 사용한다.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnrollBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EnrollmentService enrollmentService;
+    private List<Long> studentIds;
+    private Long courseId;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CourseApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.com.musinsa.course=WARN")
+                .run();
+        enrollmentService = context.getBean(EnrollmentService.class);
+
+        Department department = context.getBean(DepartmentRepository.class).findAll().get(0);
+        Professor professor = context.getBean(ProfessorRepository.class).findAll().get(0);
+        Course course = context.getBean(CourseRepository.class)
+                .save(new Course("벤치마크", "BENCH01", 3, Integer.MAX_VALUE, department, professor));
+        context.getBean(CourseScheduleRepository.class)
+                .save(new CourseSchedule(course, DayOfWeek.FRI, LocalTime.of(16, 30), LocalTime.of(18, 0)));
+        courseId = course.getId();
+
+        studentIds = context.getBean(StudentRepository.class).findAll().stream()
+                .map(student -> student.getId())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EnrollmentResponse enrollAndCancel() {
+        Long studentId = studentIds.get(next++ % studentIds.size());
+        EnrollmentResponse response = enrollmentService.enroll(studentId, courseId);
+        enrollmentService.cancel(response.getId());
+        return response;
+    }
+}
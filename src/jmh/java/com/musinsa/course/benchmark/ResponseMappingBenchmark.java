@@ -0,0 +1,65 @@
+package com.musinsa.course.benchmark;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.Enrollment;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.dto.EnrollmentResponse;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 응답 DTO 생성 비용 (시간표 문자열 조합 포함).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseMappingBenchmark {
+
+    @Param({"2"})
+    public int slotsPerCourse;
+
+    private Course course;
+    private CourseResponse courseResponse;
+    private Enrollment enrollment;
+
+    @Setup
+    public void setUp() {
+        course = BenchmarkFixtures.courses(1, slotsPerCourse, new Random(BenchmarkFixtures.SEED)).get(0);
+        courseResponse = new CourseResponse(course);
+        Student student = new Student("202400001", "홍길동", 2, course.getDepartment());
+        enrollment = new Enrollment(student, course);
+    }
+
+    @Benchmark
+    public CourseResponse courseResponse() {
+        return new CourseResponse(course);
+    }
+
+    /**
+     * 카탈로그 스냅샷이 신청 인원만 바꿔 응답을 만드는 경로
+     */
+    @Benchmark
+    public CourseResponse courseResponseWithEnrolled() {
+        return courseResponse.withEnrolled(course.getEnrolled() + 1);
+    }
+
+    @Benchmark
+    public EnrollmentResponse enrollmentResponse() {
+        return new EnrollmentResponse(enrollment);
+    }
+}
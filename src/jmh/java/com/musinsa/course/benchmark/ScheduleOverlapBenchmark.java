@@ -0,0 +1,54 @@
+package com.musinsa.course.benchmark;
+
+import com.musinsa.course.domain.CourseSchedule;
+import com.musinsa.course.domain.DayOfWeek;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link CourseSchedule#overlapsWith} 단건 비교 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScheduleOverlapBenchmark {
+
+    /**
+     * OVERLAP: 같은 요일 부분 겹침, SAME_DAY: 같은 요일 인접(겹치지 않음), OTHER_DAY: 요일이 달라 바로 false
+     */
+    @Param({"OVERLAP", "SAME_DAY", "OTHER_DAY"})
+    public String scenario;
+
+    private CourseSchedule left;
+    private CourseSchedule right;
+
+    @Setup
+    public void setUp() {
+        left = new CourseSchedule(null, DayOfWeek.MON, LocalTime.of(9, 0), LocalTime.of(10, 30));
+        right = switch (scenario) {
+            case "OVERLAP" -> new CourseSchedule(null, DayOfWeek.MON, LocalTime.of(10, 0), LocalTime.of(11, 30));
+            case "SAME_DAY" -> new CourseSchedule(null, DayOfWeek.MON, LocalTime.of(10, 30), LocalTime.of(12, 0));
+            case "OTHER_DAY" -> new CourseSchedule(null, DayOfWeek.TUE, LocalTime.of(9, 0), LocalTime.of(10, 30));
+            default -> throw new IllegalArgumentException(scenario);
+        };
+    }
+
+    @Benchmark
+    public boolean overlapsWith() {
+        return left.overlapsWith(right);
+    }
+}
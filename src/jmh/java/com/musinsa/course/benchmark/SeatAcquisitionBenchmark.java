@@ -0,0 +1,109 @@
+package com.musinsa.course.benchmark;
+
+import com.musinsa.course.CourseApplication;
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.CourseSchedule;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Department;
+import com.musinsa.course.domain.Professor;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.CourseScheduleRepository;
+import com.musinsa.course.repository.DepartmentRepository;
+import com.musinsa.course.repository.ProfessorRepository;
+import com.musinsa.course.repository.StudentRepository;
+import com.musinsa.course.service.EnrollmentService;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 한 강좌에 8개 스레드가 동시에 신청/취소할 때 좌석 확보 전략별 처리량과 지연.
+ *
+ * <p>{@code pessimistic}은 강좌 행 락을 검증 내내 잡고, {@code conditional-update}는 검증 후 UPDATE부터 커밋까지만 잡는다.
+ * 스레드마다 학생을 나눠 쓰므로 같은 학생의 중복 신청은 생기지 않는다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class SeatAcquisitionBenchmark {
+
+    @Param({"pessimistic", "conditional-update"})
+    private String strategy;
+
+    private ConfigurableApplicationContext context;
+    private EnrollmentService enrollmentService;
+    private List<Long> studentIds;
+    private Long courseId;
+    private final AtomicInteger threadSlots = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(CourseApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.com.musinsa.course=WARN",
+                        "course.enrollment.seat-acquisition=" + strategy)
+                .run();
+        enrollmentService = context.getBean(EnrollmentService.class);
+
+        Department department = context.getBean(DepartmentRepository.class).findAll().get(0);
+        Professor professor = context.getBean(ProfessorRepository.class).findAll().get(0);
+        Course course = context.getBean(CourseRepository.class)
+                .save(new Course("경합 벤치마크", "BENCH02", 0, Integer.MAX_VALUE, department, professor));
+        context.getBean(CourseScheduleRepository.class)
+                .save(new CourseSchedule(course, DayOfWeek.FRI, LocalTime.of(18, 0), LocalTime.of(19, 30)));
+        courseId = course.getId();
+
+        studentIds = context.getBean(StudentRepository.class).findAll().stream()
+                .map(student -> student.getId())
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Students {
+
+        private int slot;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp(SeatAcquisitionBenchmark benchmark) {
+            slot = benchmark.threadSlots.getAndIncrement();
+        }
+    }
+
+    @Benchmark
+    public EnrollmentResponse enrollAndCancel(Students students) {
+        // 스레드 slot마다 겹치지 않는 학생 (slot, slot + 8, slot + 16, ...)
+        int index = students.slot + 8 * (students.next++ % (studentIds.size() / 8));
+        EnrollmentResponse response = enrollmentService.enroll(studentIds.get(index), courseId);
+        enrollmentService.cancel(response.getId());
+        return response;
+    }
+}
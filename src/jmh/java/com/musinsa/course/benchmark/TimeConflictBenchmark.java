@@ -0,0 +1,92 @@
+package com.musinsa.course.benchmark;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.CourseSchedule;
+import com.musinsa.course.domain.TimetableMask;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 수강 중인 강좌(6~9개 x 2교시)와 신청 강좌의 시간 충돌 검사.
+ * 기존 validateTimeConflict 방식(이중 루프 + overlapsWith)과 비트마스크 AND를 같은 데이터로 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeConflictBenchmark {
+
+    private static final int CANDIDATES = 64;
+
+    @Param({"6", "9"})
+    public int enrolledCourses;
+
+    @Param({"2"})
+    public int slotsPerCourse;
+
+    private List<Course> enrolled;
+    private List<Course> candidates;
+    private TimetableMask studentMask;
+    private TimetableMask[] candidateMasks;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        enrolled = BenchmarkFixtures.courses(enrolledCourses, slotsPerCourse, random);
+        candidates = BenchmarkFixtures.courses(CANDIDATES, slotsPerCourse, random);
+
+        List<TimetableMask> enrolledMasks = new ArrayList<>(enrolled.size());
+        for (Course course : enrolled) {
+            enrolledMasks.add(TimetableMask.of(course.getSchedules()));
+        }
+        studentMask = TimetableMask.union(enrolledMasks);
+
+        candidateMasks = new TimetableMask[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidateMasks[i] = TimetableMask.of(candidates.get(i).getSchedules());
+        }
+    }
+
+    @Benchmark
+    public void nestedLoop(Blackhole blackhole) {
+        for (Course candidate : candidates) {
+            blackhole.consume(conflicts(candidate));
+        }
+    }
+
+    @Benchmark
+    public void bitmask(Blackhole blackhole) {
+        for (TimetableMask candidate : candidateMasks) {
+            blackhole.consume(studentMask.intersects(candidate));
+        }
+    }
+
+    private boolean conflicts(Course candidate) {
+        for (Course existing : enrolled) {
+            for (CourseSchedule existingSchedule : existing.getSchedules()) {
+                for (CourseSchedule newSchedule : candidate.getSchedules()) {
+                    if (existingSchedule.overlapsWith(newSchedule)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
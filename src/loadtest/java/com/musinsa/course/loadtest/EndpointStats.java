@@ -0,0 +1,56 @@
+package com.musinsa.course.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 지연 시간 분포와 결과(상태 코드, 거절 사유) 집계.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final ConcurrentHashMap<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> rejections = new ConcurrentHashMap<>();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param status HTTP 상태 코드, 전송 실패면 {@code IO_ERROR} 같은 이름
+     * @param rejection 거절 사유(응답의 error 코드), 성공이면 null
+     */
+    void record(long micros, String status, String rejection) {
+        latency.record(micros);
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (rejection != null) {
+            rejections.computeIfAbsent(rejection, key -> new LongAdder()).increment();
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    Map<String, Long> getStatuses() {
+        return snapshot(statuses);
+    }
+
+    Map<String, Long> getRejections() {
+        return snapshot(rejections);
+    }
+
+    // 리포트 비교(diff)가 쉽도록 키 순서를 고정
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> sorted = new TreeMap<>();
+        counters.forEach((key, counter) -> sorted.put(key, counter.sum()));
+        return sorted;
+    }
+}
@@ -0,0 +1,84 @@
+package com.musinsa.course.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 마이크로초 단위 로그-선형 지연 시간 히스토그램.
+ *
+ * <p>2의 거듭제곱 구간마다 64개의 하위 버킷을 두어 상대 오차를 약 1.6% 이내로 유지한다.
+ * 기록은 버킷 배열의 원자적 증가 한 번이라 수천 개의 클라이언트가 동시에 기록해도 락이 없다.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKETS = LINEAR_LIMIT + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    double meanMicros() {
+        long count = total.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    long maxMicros() {
+        return max.get();
+    }
+
+    /**
+     * @param quantile 0~1 (예: 0.999)
+     * @return 해당 백분위가 속한 버킷의 상한값(마이크로초)
+     */
+    long percentileMicros(double quantile) {
+        long count = total.sum();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS;
+        // value >>> shift 는 [SUB_BUCKETS, 2 * SUB_BUCKETS) 범위
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long sub = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,135 @@
+package com.musinsa.course.loadtest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과를 JSON으로 만든다. 빌드 간 비교(diff)가 쉽도록 키 순서와 숫자 형식을 고정한다.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {0.50, 0.95, 0.99, 0.999};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p95", "p99", "p999"};
+
+    private final SimulationOptions options;
+    private final double elapsedSeconds;
+    private final List<EndpointStats> endpoints;
+    private final long overbookedCourses;
+    private final long creditMismatches;
+    private final boolean virtualThreads;
+    private final int peakPlatformThreads;
+    private final long peakHeapMb;
+
+    LoadReport(SimulationOptions options, double elapsedSeconds, List<EndpointStats> endpoints,
+               long overbookedCourses, long creditMismatches,
+               boolean virtualThreads, int peakPlatformThreads, long peakHeapMb) {
+        this.options = options;
+        this.elapsedSeconds = elapsedSeconds;
+        this.endpoints = endpoints;
+        this.overbookedCourses = overbookedCourses;
+        this.creditMismatches = creditMismatches;
+        this.virtualThreads = virtualThreads;
+        this.peakPlatformThreads = peakPlatformThreads;
+        this.peakHeapMb = peakHeapMb;
+    }
+
+    long totalRequests() {
+        return endpoints.stream().mapToLong(endpoint -> endpoint.getLatency().count()).sum();
+    }
+
+    double throughput(long count) {
+        return elapsedSeconds == 0 ? 0 : count / elapsedSeconds;
+    }
+
+    String toJson() {
+        StringBuilder json = new StringBuilder(4096);
+        json.append("{\n");
+        json.append("  \"config\": {\n");
+        field(json, 4, "clients", options.clients).append(",\n");
+        field(json, 4, "durationSeconds", options.durationSeconds).append(",\n");
+        field(json, 4, "seed", options.seed).append(",\n");
+        field(json, 4, "hotCourses", options.hotCourses).append(",\n");
+        field(json, 4, "hotCoursePercent", options.hotCoursePercent).append(",\n");
+        field(json, 4, "maxThinkMillis", options.maxThinkMillis).append(",\n");
+        indent(json, 4).append("\"mix\": {");
+        json.append("\"enroll\": ").append(options.enrollWeight)
+                .append(", \"cancel\": ").append(options.cancelWeight)
+                .append(", \"catalog\": ").append(options.catalogWeight)
+                .append(", \"timetable\": ").append(options.timetableWeight).append("}\n");
+        json.append("  },\n");
+
+        field(json, 2, "elapsedSeconds", decimal(elapsedSeconds)).append(",\n");
+        long total = totalRequests();
+        field(json, 2, "totalRequests", total).append(",\n");
+        field(json, 2, "throughputPerSecond", decimal(throughput(total))).append(",\n");
+
+        json.append("  \"endpoints\": {\n");
+        for (int i = 0; i < endpoints.size(); i++) {
+            appendEndpoint(json, endpoints.get(i));
+            json.append(i < endpoints.size() - 1 ? ",\n" : "\n");
+        }
+        json.append("  },\n");
+
+        // 클라이언트도 같은 JVM에서 돌므로 절댓값보다 실행 모드 간 차이를 본다
+        json.append("  \"runtime\": {\n");
+        field(json, 4, "virtualThreads", virtualThreads).append(",\n");
+        field(json, 4, "peakPlatformThreads", peakPlatformThreads).append(",\n");
+        field(json, 4, "peakHeapMb", peakHeapMb).append("\n");
+        json.append("  },\n");
+
+        json.append("  \"consistency\": {\n");
+        field(json, 4, "overbookedCourses", overbookedCourses).append(",\n");
+        field(json, 4, "creditMismatches", creditMismatches).append("\n");
+        json.append("  }\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private void appendEndpoint(StringBuilder json, EndpointStats endpoint) {
+        LatencyHistogram latency = endpoint.getLatency();
+        indent(json, 4).append(quote(endpoint.getName())).append(": {\n");
+        field(json, 6, "count", latency.count()).append(",\n");
+        field(json, 6, "throughputPerSecond", decimal(throughput(latency.count()))).append(",\n");
+
+        indent(json, 6).append("\"latencyMs\": {");
+        json.append("\"mean\": ").append(decimal(latency.meanMicros() / 1000.0));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            json.append(", ").append(quote(PERCENTILE_NAMES[i])).append(": ")
+                    .append(decimal(latency.percentileMicros(PERCENTILES[i]) / 1000.0));
+        }
+        json.append(", \"max\": ").append(decimal(latency.maxMicros() / 1000.0)).append("},\n");
+
+        indent(json, 6).append("\"statuses\": ");
+        counts(json, endpoint.getStatuses()).append(",\n");
+        indent(json, 6).append("\"rejections\": ");
+        counts(json, endpoint.getRejections()).append("\n");
+        indent(json, 4).append("}");
+    }
+
+    private static StringBuilder counts(StringBuilder json, Map<String, Long> counts) {
+        json.append("{");
+        boolean first = true;
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            json.append(first ? "" : ", ").append(quote(entry.getKey())).append(": ").append(entry.getValue());
+            first = false;
+        }
+        return json.append("}");
+    }
+
+    private static StringBuilder field(StringBuilder json, int depth, String name, Object value) {
+        return indent(json, depth).append(quote(name)).append(": ").append(value);
+    }
+
+    private static StringBuilder indent(StringBuilder json, int depth) {
+        return json.append(" ".repeat(depth));
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,279 @@
+package com.musinsa.course.loadtest;
+
+import com.musinsa.course.CourseApplication;
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.StudentRepository;
+import com.musinsa.course.service.StudentService;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * "10시 수강신청 오픈" 상황을 재현하는 부하 시뮬레이터.
+ *
+ * <p>애플리케이션을 임의 포트로 띄워 {@code DataInitializer} 데이터(학생 10,000명, 강좌 500개)를 만든 뒤,
+ * 모든 클라이언트(가상 스레드)를 동시에 출발시켜 정해진 시간 동안 다음 트래픽을 섞어 보낸다.
+ * <ul>
+ *     <li>수강신청: 인기 강좌에 몰리는 신청 (기본 70%가 인기 강좌 20개)</li>
+ *     <li>수강취소: 본인이 신청에 성공한 강좌 중 하나 (없으면 수강신청)</li>
+ *     <li>강좌 목록 폴링: 직전 ETag로 If-None-Match 조회</li>
+ *     <li>시간표 조회: 본인 수강신청 목록</li>
+ * </ul>
+ * 엔드포인트별 처리량, p50/p95/p99/p999 지연 시간, 상태 코드/거절 사유와
+ * 부하 중 최대 플랫폼 스레드 수/힙 사용량을 JSON 리포트로 남긴다.
+ * 실행 모드 비교는 같은 옵션에 {@code --spring.threads.virtual.enabled=true} 등을 바꿔 두 번 실행한다.
+ *
+ * <p>실행: {@code ./gradlew loadTest -PloadtestArgs="--clients=2000 --duration=30"}
+ */
+public final class RegistrationLoadSimulator {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationLoadSimulator.class);
+
+    private static final Pattern ERROR_CODE = Pattern.compile("\"error\"\\s*:\\s*\"([A-Z_]+)\"");
+    private static final Pattern FIRST_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final SimulationOptions options;
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final List<Long> studentIds;
+    private final List<Long> courseIds;
+    private final List<Long> hotCourseIds;
+
+    private final EndpointStats enrollStats = new EndpointStats("POST /enrollments");
+    private final EndpointStats cancelStats = new EndpointStats("DELETE /enrollments/{id}");
+    private final EndpointStats catalogStats = new EndpointStats("GET /courses");
+    private final EndpointStats timetableStats = new EndpointStats("GET /students/{id}/enrollments");
+
+    private RegistrationLoadSimulator(SimulationOptions options, HttpClient httpClient, URI baseUri,
+                                      List<Long> studentIds, List<Long> courseIds) {
+        this.options = options;
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.studentIds = studentIds;
+        this.courseIds = courseIds;
+
+        List<Long> shuffled = new ArrayList<>(courseIds);
+        Collections.shuffle(shuffled, new Random(options.seed));
+        this.hotCourseIds = List.copyOf(shuffled.subList(0, Math.min(options.hotCourses, shuffled.size())));
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulationOptions options = SimulationOptions.parse(args);
+
+        // properties()는 기본값이므로 --server.port 같은 인자로 덮어쓸 수 있다
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CourseApplication.class)
+                .properties("server.port=0", "logging.level.com.musinsa.course.service=WARN")
+                .run(options.applicationArgs.toArray(String[]::new));
+             ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            List<Long> studentIds = context.getBean(StudentRepository.class).findAll().stream()
+                    .map(student -> student.getId())
+                    .toList();
+            List<Long> courseIds = context.getBean(CourseRepository.class).findAll().stream()
+                    .map(course -> course.getId())
+                    .toList();
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(httpExecutor)
+                    .build();
+
+            RegistrationLoadSimulator simulator = new RegistrationLoadSimulator(
+                    options, httpClient, URI.create("http://localhost:" + port), studentIds, courseIds);
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+            System.gc();
+            threads.resetPeakThreadCount();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            double elapsedSeconds = simulator.run();
+
+            int peakThreads = threads.getPeakThreadCount();
+            long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            boolean virtualThreads = context.getEnvironment()
+                    .getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+            List<Course> courses = context.getBean(CourseRepository.class).findAll();
+            long overbooked = courses.stream().filter(course -> course.getEnrolled() > course.getCapacity()).count();
+            long creditMismatches = context.getBean(StudentService.class).findCreditMismatches().size();
+
+            LoadReport report = new LoadReport(options, elapsedSeconds, simulator.endpoints(), overbooked, creditMismatches,
+                    virtualThreads, peakThreads, peakHeapBytes / (1024 * 1024));
+            if (options.output.getParent() != null) {
+                Files.createDirectories(options.output.getParent());
+            }
+            Files.writeString(options.output, report.toJson());
+            simulator.logSummary(report);
+            log.info("리포트 저장: {}", options.output.toAbsolutePath());
+        }
+    }
+
+    private double run() throws InterruptedException {
+        log.info("부하 시작 - 클라이언트 {}명, {}초, 인기 강좌 {}개", options.clients, options.durationSeconds,
+                hotCourseIds.size());
+
+        CountDownLatch opening = new CountDownLatch(1);
+        long start;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.clients; i++) {
+                int index = i;
+                clients.submit(() -> {
+                    opening.await();
+                    runClient(index);
+                    return null;
+                });
+            }
+            start = System.nanoTime();
+            opening.countDown();
+        }
+        return (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    private void runClient(int index) throws InterruptedException {
+        Random random = new Random(options.seed + index);
+        Long studentId = studentIds.get(index % studentIds.size());
+        List<Long> myEnrollments = new ArrayList<>();
+        String etag = null;
+        long deadline = System.nanoTime() + Duration.ofSeconds(options.durationSeconds).toNanos();
+
+        while (System.nanoTime() < deadline) {
+            int pick = random.nextInt(options.totalWeight());
+            if (pick < options.enrollWeight || (pick < options.enrollWeight + options.cancelWeight
+                    && myEnrollments.isEmpty())) {
+                Long enrollmentId = enroll(studentId, pickCourse(random));
+                if (enrollmentId != null) {
+                    myEnrollments.add(enrollmentId);
+                }
+            } else if (pick < options.enrollWeight + options.cancelWeight) {
+                cancel(myEnrollments.remove(random.nextInt(myEnrollments.size())));
+            } else if (pick < options.enrollWeight + options.cancelWeight + options.catalogWeight) {
+                etag = pollCatalog(etag);
+            } else {
+                send(timetableStats, get("/students/" + studentId + "/enrollments", null));
+            }
+
+            if (options.maxThinkMillis > 0) {
+                Thread.sleep(random.nextInt(options.maxThinkMillis + 1));
+            }
+        }
+    }
+
+    private Long pickCourse(Random random) {
+        List<Long> pool = random.nextInt(100) < options.hotCoursePercent ? hotCourseIds : courseIds;
+        return pool.get(random.nextInt(pool.size()));
+    }
+
+    private Long enroll(Long studentId, Long courseId) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/enrollments"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"studentId\":" + studentId + ",\"courseId\":" + courseId + "}"))
+                .build();
+        HttpResponse<String> response = send(enrollStats, request);
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        Matcher matcher = FIRST_ID.matcher(response.body());
+        return matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+    }
+
+    private void cancel(Long enrollmentId) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/enrollments/" + enrollmentId))
+                .timeout(REQUEST_TIMEOUT)
+                .DELETE()
+                .build();
+        send(cancelStats, request);
+    }
+
+    private String pollCatalog(String etag) {
+        HttpResponse<String> response = send(catalogStats, get("/courses", etag));
+        if (response == null) {
+            return etag;
+        }
+        return response.headers().firstValue("ETag").orElse(etag);
+    }
+
+    private HttpRequest get(String path, String etag) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+        if (etag != null) {
+            builder.header("If-None-Match", etag);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 요청을 보내고 지연 시간과 결과를 기록한다. 전송 자체가 실패하면 null.
+     */
+    private HttpResponse<String> send(EndpointStats stats, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            long micros = (System.nanoTime() - start) / 1_000;
+            int status = response.statusCode();
+            stats.record(micros, String.valueOf(status), status >= 400 ? rejectionOf(response) : null);
+            return response;
+        } catch (HttpTimeoutException e) {
+            stats.record((System.nanoTime() - start) / 1_000, "TIMEOUT", "TIMEOUT");
+        } catch (IOException e) {
+            stats.record((System.nanoTime() - start) / 1_000, "IO_ERROR", "IO_ERROR");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private static String rejectionOf(HttpResponse<String> response) {
+        Matcher matcher = ERROR_CODE.matcher(response.body());
+        return matcher.find() ? matcher.group(1) : "HTTP_" + response.statusCode();
+    }
+
+    private List<EndpointStats> endpoints() {
+        return List.of(enrollStats, cancelStats, catalogStats, timetableStats);
+    }
+
+    private void logSummary(LoadReport report) {
+        log.info("총 {}건, {}건/초", report.totalRequests(),
+                String.format(Locale.ROOT, "%.1f", report.throughput(report.totalRequests())));
+        for (EndpointStats endpoint : endpoints()) {
+            LatencyHistogram latency = endpoint.getLatency();
+            log.info("{} - {}건, p50 {}ms, p99 {}ms, p999 {}ms, 거절 {}",
+                    endpoint.getName(), latency.count(),
+                    latency.percentileMicros(0.50) / 1000.0,
+                    latency.percentileMicros(0.99) / 1000.0,
+                    latency.percentileMicros(0.999) / 1000.0,
+                    endpoint.getRejections());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.musinsa.course.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 시뮬레이터 실행 옵션. {@code --name=value} 형식이며,
+ * {@code --spring.*}, {@code --course.*}, {@code --server.*}, {@code --logging.*}는 애플리케이션 설정으로 넘긴다.
+ */
+final class SimulationOptions {
+
+    int clients = 2000;
+    int durationSeconds = 30;
+    long seed = 42L;
+    int hotCourses = 20;
+    int hotCoursePercent = 70;
+    int maxThinkMillis = 20;
+    int enrollWeight = 50;
+    int cancelWeight = 10;
+    int catalogWeight = 25;
+    int timetableWeight = 15;
+    Path output = Path.of("build", "reports", "loadtest", "report.json");
+    final List<String> applicationArgs = new ArrayList<>();
+
+    static SimulationOptions parse(String[] args) {
+        SimulationOptions options = new SimulationOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션 형식은 --name=value 입니다: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "clients" -> options.clients = Integer.parseInt(value);
+                case "duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "hot-courses" -> options.hotCourses = Integer.parseInt(value);
+                case "hot-course-percent" -> options.hotCoursePercent = Integer.parseInt(value);
+                case "max-think-ms" -> options.maxThinkMillis = Integer.parseInt(value);
+                case "mix" -> options.parseMix(value);
+                case "out" -> options.output = Path.of(value);
+                default -> {
+                    if (name.startsWith("spring.") || name.startsWith("course.")
+                            || name.startsWith("server.") || name.startsWith("logging.")) {
+                        options.applicationArgs.add(arg);
+                    } else {
+                        throw new IllegalArgumentException("알 수 없는 옵션: " + name);
+                    }
+                }
+            }
+        }
+        if (options.totalWeight() <= 0) {
+            throw new IllegalArgumentException("트래픽 비율(mix)의 합은 0보다 커야 합니다");
+        }
+        return options;
+    }
+
+    /**
+     * 트래픽 비율. 예: {@code --mix=50,10,25,15} (수강신청, 취소, 강좌 목록, 시간표 조회)
+     */
+    private void parseMix(String value) {
+        String[] weights = value.split(",");
+        if (weights.length != 4) {
+            throw new IllegalArgumentException("mix는 enroll,cancel,catalog,timetable 4개 값입니다: " + value);
+        }
+        enrollWeight = Integer.parseInt(weights[0].trim());
+        cancelWeight = Integer.parseInt(weights[1].trim());
+        catalogWeight = Integer.parseInt(weights[2].trim());
+        timetableWeight = Integer.parseInt(weights[3].trim());
+    }
+
+    int totalWeight() {
+        return enrollWeight + cancelWeight + catalogWeight + timetableWeight;
+    }
+}
@@ -0,0 +1,37 @@
+package com.musinsa.course.config;
+
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * DataSource를 {@link GatedDataSource}로 감싸 JDBC 동시 실행 수를 제한한다.
+ * course.db-gate.enabled=true일 때만 적용하고, 기본은 원래 DataSource를 그대로 사용한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DatabaseGateConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseGateConfig.class);
+
+    @Bean
+    public static BeanPostProcessor databaseGatePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("course.db-gate.enabled", Boolean.class, false);
+        int maxConcurrency = environment.getProperty("course.db-gate.max-concurrency", Integer.class, 10);
+        long acquireTimeoutMillis = environment.getProperty("course.db-gate.acquire-timeout-ms", Long.class, 30_000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof GatedDataSource) {
+                    return bean;
+                }
+                log.info("DB 동시 실행 게이트 적용 - 최대 {}개, 대기 한도 {}ms", maxConcurrency, acquireTimeoutMillis);
+                return new GatedDataSource(dataSource, maxConcurrency, acquireTimeoutMillis);
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.musinsa.course.config;
+
+import com.musinsa.course.service.CourseContentionTracker;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강좌 락 경합 순위. {@code GET /actuator/hotcourses?limit=10}
+ */
+@Component
+@Endpoint(id = "hotcourses")
+public class HotCoursesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final CourseContentionTracker contentionTracker;
+
+    public HotCoursesEndpoint(CourseContentionTracker contentionTracker) {
+        this.contentionTracker = contentionTracker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> hotCourses(@OptionalParameter Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("windowSeconds", contentionTracker.getWindowSeconds());
+        result.put("courses", contentionTracker.getHottest(limit != null && limit > 0 ? limit : DEFAULT_LIMIT));
+        return result;
+    }
+}
@@ -1,37 +1,122 @@
 package com.musinsa.course.controller;
 
+import com.musinsa.course.domain.DayOfWeek;
 import com.musinsa.course.dto.ApiResponse;
 import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.dto.CourseSearchResponse;
+import com.musinsa.course.service.CatalogResponseCache;
+import com.musinsa.course.service.CatalogResponseCache.Payload;
 import com.musinsa.course.service.CourseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
 import java.util.List;
+import lombok.Getter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * 강좌 조회 API. 응답은 미리 직렬화된 JSON 바이트로 내려가며,
+ * ETag가 같으면 Spring MVC가 If-None-Match를 비교해 본문 없이 304를 반환한다.
+ * 검색은 강좌 목록 스냅샷의 메모리 색인에서 처리한다.
+ */
 @RestController
 public class CourseController {
 
+    private final CatalogResponseCache catalogResponseCache;
     private final CourseService courseService;
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CatalogResponseCache catalogResponseCache, CourseService courseService) {
+        this.catalogResponseCache = catalogResponseCache;
         this.courseService = courseService;
     }
 
-    @GetMapping("/courses")
-    public ResponseEntity<ApiResponse<List<CourseResponse>>> getCourses(
-            @RequestParam(required = false) String department) {
-        List<CourseResponse> courses = department != null
-                ? courseService.getCoursesByDepartment(department)
-                : courseService.getAllCourses();
+    @Operation(
+            summary = "강좌 목록 조회",
+            description = "응답에 ETag가 포함되며, If-None-Match가 일치하면 본문 없이 304를 반환합니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CourseListBody.class)))
+    )
+    @GetMapping(value = "/courses", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCourses(@RequestParam(required = false) String department) {
+        Payload payload = department != null
+                ? catalogResponseCache.getByDepartment(department)
+                : catalogResponseCache.getAll();
 
-        return ResponseEntity.ok(ApiResponse.success(courses));
+        return respond(payload);
     }
 
-    @GetMapping("/courses/{id}")
-    public ResponseEntity<ApiResponse<CourseResponse>> getCourseById(@PathVariable Long id) {
-        CourseResponse course = courseService.getCourseById(id);
-        return ResponseEntity.ok(ApiResponse.success(course));
+    @Operation(
+            summary = "강좌 검색",
+            description = """
+    강좌명/강좌코드/교수명 부분 일치로 검색합니다. 초성(예: ㅈㄹㄱㅈ)으로도 찾을 수 있습니다.
+    - q를 비우면 필터만 적용합니다.
+    - facets는 각 필터를 뺀 나머지 조건으로 센 건수입니다.
+    """,
+            parameters = {
+                    @Parameter(name = "q", description = "검색어", example = "자료"),
+                    @Parameter(name = "department", description = "학과명", example = "컴퓨터공학과"),
+                    @Parameter(name = "credits", description = "학점", example = "3"),
+                    @Parameter(name = "day", description = "요일 (MON~FRI)", example = "MON"),
+                    @Parameter(name = "size", description = "최대 건수 (1~100)", example = "20")
+            }
+    )
+    @GetMapping("/courses/search")
+    public ResponseEntity<ApiResponse<CourseSearchResponse>> searchCourses(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Integer credits,
+            @RequestParam(required = false) DayOfWeek day,
+            @RequestParam(defaultValue = "20") int size) {
+        CourseSearchResponse result = courseService.searchCourses(q, department, credits, day, size);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    @Operation(
+            summary = "강좌 단건 조회",
+            description = "응답에 ETag가 포함되며, If-None-Match가 일치하면 본문 없이 304를 반환합니다.",
+            responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CourseBody.class)))
+    )
+    @GetMapping(value = "/courses/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCourseById(@PathVariable Long id) {
+        return respond(catalogResponseCache.getCourse(id));
+    }
+
+    private ResponseEntity<byte[]> respond(Payload payload) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(payload.getEtag())
+                .body(payload.getBody());
+    }
+
+    // 아래 두 클래스는 OpenAPI 문서용 스키마다. 실제 본문은 CatalogResponseCache가 직렬화한 ApiResponse 바이트다.
+
+    @Getter
+    @Schema(name = "ApiResponseListCourseResponse", description = "강좌 목록 응답 (ApiResponse<List<CourseResponse>>)")
+    static class CourseListBody {
+
+        private boolean success;
+        private List<CourseResponse> data;
+        private LocalDateTime timestamp;
+    }
+
+    @Getter
+    @Schema(name = "ApiResponseCourseResponse", description = "강좌 단건 응답 (ApiResponse<CourseResponse>)")
+    static class CourseBody {
+
+        private boolean success;
+        private CourseResponse data;
+        private LocalDateTime timestamp;
     }
 }
@@ -1,33 +1,87 @@
 package com.musinsa.course.controller;
 
 import com.musinsa.course.dto.ApiResponse;
+import com.musinsa.course.dto.AvailableCoursesResponse;
+import com.musinsa.course.dto.BulkEnrollmentRequest;
+import com.musinsa.course.dto.BulkEnrollmentResponse;
 import com.musinsa.course.dto.EnrollmentRequest;
 import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.dto.SwapEnrollmentRequest;
+import com.musinsa.course.exception.AdmissionRequiredException;
+import com.musinsa.course.service.EnrollmentPipeline;
 import com.musinsa.course.service.EnrollmentService;
+import com.musinsa.course.service.IdempotencyCache;
+import com.musinsa.course.service.WaitingRoom;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final EnrollmentPipeline enrollmentPipeline;
+    private final WaitingRoom waitingRoom;
+    private final IdempotencyCache idempotencyCache;
 
-    public EnrollmentController(EnrollmentService enrollmentService) {
+    public EnrollmentController(EnrollmentService enrollmentService,
+                                EnrollmentPipeline enrollmentPipeline,
+                                WaitingRoom waitingRoom,
+                                IdempotencyCache idempotencyCache) {
         this.enrollmentService = enrollmentService;
+        this.enrollmentPipeline = enrollmentPipeline;
+        this.waitingRoom = waitingRoom;
+        this.idempotencyCache = idempotencyCache;
     }
 
     @PostMapping("/enrollments")
     public ResponseEntity<ApiResponse<EnrollmentResponse>> enroll(
-            @Valid @RequestBody EnrollmentRequest request) {
-        EnrollmentResponse response = enrollmentService.enroll(
-                request.getStudentId(), request.getCourseId());
+            @Valid @RequestBody EnrollmentRequest request,
+            @RequestHeader(value = "X-Admission-Ticket", required = false) String admissionTicket,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return ResponseEntity.ok(ApiResponse.success(admitAndEnroll(request, admissionTicket)));
+        }
+
+        // 재전송된 요청은 대기실/DB를 거치지 않고 처음 결과를 돌려준다
+        // 파이프라인은 시간 초과 후에도 대기열의 요청이 반영될 수 있으므로 결과가 정해질 때까지 키를 처리 중으로 둔다
+        EnrollmentResponse response = enrollmentPipeline.isEnabled()
+                ? idempotencyCache.executeAsync(idempotencyKey, request.getStudentId(), request.getCourseId(),
+                        () -> admitAndSubmit(request, admissionTicket))
+                : idempotencyCache.execute(idempotencyKey, request.getStudentId(), request.getCourseId(),
+                        () -> admitAndEnroll(request, admissionTicket));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/enrollments/bulk")
+    public ResponseEntity<ApiResponse<BulkEnrollmentResponse>> enrollAll(
+            @Valid @RequestBody BulkEnrollmentRequest request) {
+        // 대기실 번호표는 강좌 단위이므로 대기실 운영 중에는 일괄 신청을 받지 않는다
+        if (waitingRoom.isEnabled()) {
+            throw new AdmissionRequiredException("대기실 운영 중에는 일괄 수강신청을 사용할 수 없습니다");
+        }
+        BulkEnrollmentResponse response = enrollmentService.enrollAll(
+                request.getStudentId(), request.getCourseIds(), request.getMode());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/enrollments/{id}/swap")
+    public ResponseEntity<ApiResponse<EnrollmentResponse>> swap(
+            @PathVariable Long id,
+            @Valid @RequestBody SwapEnrollmentRequest request) {
+        // 대기실 운영 중에는 신청할 강좌의 번호표 없이 좌석을 얻게 되므로 받지 않는다
+        if (waitingRoom.isEnabled()) {
+            throw new AdmissionRequiredException("대기실 운영 중에는 강좌 교체를 사용할 수 없습니다");
+        }
+        EnrollmentResponse response = enrollmentService.swap(id, request.getCourseId());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -43,4 +97,41 @@ public class EnrollmentController {
         List<EnrollmentResponse> enrollments = enrollmentService.getStudentEnrollments(studentId);
         return ResponseEntity.ok(ApiResponse.success(enrollments));
     }
+
+    // 좌석이 남아 있고 시간이 겹치지 않으며 남은 학점 안에 드는 강좌 (좌석은 조회 시점 기준)
+    @GetMapping("/students/{studentId}/available-courses")
+    public ResponseEntity<ApiResponse<AvailableCoursesResponse>> getAvailableCourses(@PathVariable Long studentId) {
+        return ResponseEntity.ok(ApiResponse.success(enrollmentService.findAvailableCourses(studentId)));
+    }
+
+    private EnrollmentResponse admitAndEnroll(EnrollmentRequest request, String admissionTicket) {
+        if (!waitingRoom.isEnabled()) {
+            return doEnroll(request);
+        }
+
+        // 대기실 사용 시 입장한 번호표만 수강신청 가능, 끝나면 다음 입장 자리를 돌려준다
+        waitingRoom.admit(admissionTicket, request.getStudentId(), request.getCourseId());
+        try {
+            return doEnroll(request);
+        } finally {
+            waitingRoom.complete(admissionTicket);
+        }
+    }
+
+    private CompletableFuture<EnrollmentResponse> admitAndSubmit(EnrollmentRequest request, String admissionTicket) {
+        if (!waitingRoom.isEnabled()) {
+            return enrollmentPipeline.submit(request.getStudentId(), request.getCourseId());
+        }
+
+        // 입장 자리는 요청 스레드가 아니라 대기열의 요청이 끝날 때 돌려준다
+        waitingRoom.admit(admissionTicket, request.getStudentId(), request.getCourseId());
+        return enrollmentPipeline.submit(request.getStudentId(), request.getCourseId())
+                .whenComplete((response, failure) -> waitingRoom.complete(admissionTicket));
+    }
+
+    private EnrollmentResponse doEnroll(EnrollmentRequest request) {
+        return enrollmentPipeline.isEnabled()
+                ? enrollmentPipeline.enroll(request.getStudentId(), request.getCourseId())
+                : enrollmentService.enroll(request.getStudentId(), request.getCourseId());
+    }
 }
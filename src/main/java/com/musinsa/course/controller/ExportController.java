@@ -0,0 +1,83 @@
+package com.musinsa.course.controller;
+
+import com.musinsa.course.dto.ExportFormat;
+import com.musinsa.course.service.ExportService;
+import com.musinsa.course.service.ExportService.ExportSlot;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.Callable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 내보내기 API. 본문을 메모리에 만들지 않고 응답 스트림에 바로 쓴다.
+ */
+@RestController
+public class ExportController {
+
+    private static final String EXPORT_SLOT_KEY = ExportController.class.getName() + ".exportSlot";
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(
+            summary = "수강신청 내역 내보내기",
+            description = "format=ndjson|csv. courseId를 주면 해당 강좌의 수강생 명단만 내보냅니다. "
+                    + "동시 내보내기가 상한에 닿으면 503 EXPORT_BUSY."
+    )
+    @GetMapping("/exports/enrollments")
+    public ResponseEntity<StreamingResponseBody> exportEnrollments(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long courseId,
+            HttpServletRequest request) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        // 다운로드 동안 커넥션을 잡으므로 응답을 시작하기 전에 자리를 확인한다 (없으면 503 EXPORT_BUSY)
+        ExportSlot slot = exportService.acquireEnrollmentExport();
+        // 본문이 실행되지 못하고 요청이 끝나도(작업 거부, 비동기 타임아웃/오류) 자리가 새지 않도록 완료 시 회수한다
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_SLOT_KEY,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        slot.abandon();
+                    }
+                });
+        return attachment("enrollments", exportFormat, out -> {
+            if (!slot.begin()) {
+                return;
+            }
+            try {
+                exportService.writeEnrollments(out, exportFormat, courseId);
+            } finally {
+                slot.finish();
+            }
+        });
+    }
+
+    @Operation(summary = "강좌 목록 내보내기", description = "format=ndjson|csv")
+    @GetMapping("/exports/courses")
+    public ResponseEntity<StreamingResponseBody> exportCourses(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        return attachment("courses", exportFormat, out -> exportService.writeCourses(out, exportFormat));
+    }
+
+    private ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format,
+                                                             StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+}
@@ -19,7 +19,7 @@ public class HealthController {
     public ResponseEntity<String> health() {
         if (!dataInitializer.isReady()) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
-                    .body("초기 데이터 생성 중...");
+                    .body("초기 데이터 생성/워밍업 중...");
         }
         return ResponseEntity.ok("OK");
     }
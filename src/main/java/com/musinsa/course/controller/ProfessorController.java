@@ -1,17 +1,19 @@
 package com.musinsa.course.controller;
 
 import com.musinsa.course.dto.ApiResponse;
+import com.musinsa.course.dto.CursorPage;
 import com.musinsa.course.dto.ProfessorResponse;
 import com.musinsa.course.service.ProfessorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -28,13 +30,35 @@ public class ProfessorController {
             parameters = {
                     @Parameter(name = "page", description = "페이지 번호(0부터)", example = "0"),
                     @Parameter(name = "size", description = "페이지 크기", example = "20"),
-                    @Parameter(name = "sort", description = "정렬: 필드,방향 (예: id,DESC)", example = "id,DESC")
+                    @Parameter(name = "sort", description = "정렬: 필드,방향 (예: id,DESC)", example = "id,DESC"),
+                    @Parameter(name = "count", description = "false면 전체 건수(COUNT) 없이 다음 페이지 유무만 반환", example = "true")
             }
     )
     @GetMapping("/professors")
-    public ResponseEntity<ApiResponse<Page<ProfessorResponse>>> getProfessors(
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<ProfessorResponse> professors = professorService.getProfessors(normalizeSort(pageable));
+    public ResponseEntity<ApiResponse<Slice<ProfessorResponse>>> getProfessors(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        Pageable normalized = normalizeSort(pageable);
+        Slice<ProfessorResponse> professors = count
+                ? professorService.getProfessors(normalized)
+                : professorService.getProfessorSlice(normalized);
+        return ResponseEntity.ok(ApiResponse.success(professors));
+    }
+
+    @Operation(
+            summary = "교수 목록 조회 (커서)",
+            parameters = {
+                    @Parameter(name = "size", description = "페이지 크기", example = "20"),
+                    @Parameter(name = "sort", description = "정렬: 필드,방향 (id, name)", example = "name,ASC"),
+                    @Parameter(name = "cursor", description = "이전 응답의 nextCursor (정렬은 커서에 담긴 값을 사용)")
+            }
+    )
+    @GetMapping("/professors/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<ProfessorResponse>>> scrollProfessors(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
+        CursorPage<ProfessorResponse> professors = professorService.scrollProfessors(
+                normalizeSort(pageable).getSort(), cursor, pageable.getPageSize());
         return ResponseEntity.ok(ApiResponse.success(professors));
     }
 
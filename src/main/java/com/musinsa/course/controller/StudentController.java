@@ -1,18 +1,20 @@
 package com.musinsa.course.controller;
 
 import com.musinsa.course.dto.ApiResponse;
+import com.musinsa.course.dto.CursorPage;
 import com.musinsa.course.dto.StudentResponse;
 import com.musinsa.course.service.StudentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -34,14 +36,40 @@ public class StudentController {
             parameters = {
                     @Parameter(name = "page", description = "페이지 번호(0부터)", example = "0"),
                     @Parameter(name = "size", description = "페이지 크기", example = "20"),
-                    @Parameter(name = "sort", description = "정렬: 필드,방향 (예: id,DESC)", example = "id,DESC")
+                    @Parameter(name = "sort", description = "정렬: 필드,방향 (예: id,DESC)", example = "id,DESC"),
+                    @Parameter(name = "count", description = "false면 전체 건수(COUNT) 없이 다음 페이지 유무만 반환", example = "true")
             }
     )
     @GetMapping("/students")
-    public ResponseEntity<ApiResponse<Page<StudentResponse>>> getStudents(
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<StudentResponse> students = studentService.getStudents(
-                normalizeSort(pageable));
+    public ResponseEntity<ApiResponse<Slice<StudentResponse>>> getStudents(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        Pageable normalized = normalizeSort(pageable);
+        Slice<StudentResponse> students = count
+                ? studentService.getStudents(normalized)
+                : studentService.getStudentSlice(normalized);
+        return ResponseEntity.ok(ApiResponse.success(students));
+    }
+
+    @Operation(
+            summary = "학생 목록 조회 (커서)",
+            description = """
+    OFFSET/COUNT 없이 마지막으로 받은 행 다음부터 조회합니다.
+    - 첫 페이지: sort, size만 지정
+    - 다음 페이지: 응답의 nextCursor를 cursor로 전달 (정렬은 커서에 담긴 값을 사용)
+    """,
+            parameters = {
+                    @Parameter(name = "size", description = "페이지 크기", example = "20"),
+                    @Parameter(name = "sort", description = "정렬: 필드,방향 (id, studentNumber, name, grade)", example = "name,ASC"),
+                    @Parameter(name = "cursor", description = "이전 응답의 nextCursor")
+            }
+    )
+    @GetMapping("/students/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<StudentResponse>>> scrollStudents(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
+        CursorPage<StudentResponse> students = studentService.scrollStudents(
+                normalizeSort(pageable).getSort(), cursor, pageable.getPageSize());
         return ResponseEntity.ok(ApiResponse.success(students));
     }
 
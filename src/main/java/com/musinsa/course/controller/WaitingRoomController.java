@@ -0,0 +1,48 @@
+package com.musinsa.course.controller;
+
+import com.musinsa.course.dto.AdmissionTicketResponse;
+import com.musinsa.course.dto.ApiResponse;
+import com.musinsa.course.dto.EnrollmentRequest;
+import com.musinsa.course.service.WaitingRoom;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class WaitingRoomController {
+
+    private final WaitingRoom waitingRoom;
+
+    public WaitingRoomController(WaitingRoom waitingRoom) {
+        this.waitingRoom = waitingRoom;
+    }
+
+    @Operation(
+            summary = "대기 번호표 발급",
+            description = "status가 ADMITTED가 되면 X-Admission-Ticket 헤더에 ticketId를 담아 POST /enrollments를 호출합니다."
+    )
+    @PostMapping("/waiting-room/tickets")
+    public ResponseEntity<ApiResponse<AdmissionTicketResponse>> issue(@Valid @RequestBody EnrollmentRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(
+                waitingRoom.issue(request.getStudentId(), request.getCourseId())));
+    }
+
+    @Operation(summary = "대기 순번 조회", description = "메모리만 조회하므로 주기적으로 폴링해도 DB 부하가 없습니다.")
+    @GetMapping("/waiting-room/tickets/{ticketId}")
+    public ResponseEntity<ApiResponse<AdmissionTicketResponse>> getTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(ApiResponse.success(waitingRoom.getTicket(ticketId)));
+    }
+
+    @Operation(summary = "번호표 반납", description = "기다리기를 그만두면 반납해 줄에서 빠지거나 입장 자리를 바로 돌려줍니다.")
+    @DeleteMapping("/waiting-room/tickets/{ticketId}")
+    public ResponseEntity<ApiResponse<Void>> release(@PathVariable String ticketId) {
+        waitingRoom.release(ticketId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+}
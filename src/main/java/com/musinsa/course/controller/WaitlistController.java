@@ -0,0 +1,52 @@
+package com.musinsa.course.controller;
+
+import com.musinsa.course.dto.ApiResponse;
+import com.musinsa.course.dto.EnrollmentRequest;
+import com.musinsa.course.dto.WaitlistResponse;
+import com.musinsa.course.service.WaitlistService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    public WaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    @Operation(
+            summary = "대기 등록",
+            description = "정원이 찬 강좌에만 등록할 수 있습니다. 빈자리가 생기면 순서대로 자동 수강신청됩니다."
+    )
+    @PostMapping("/waitlist")
+    public ResponseEntity<ApiResponse<WaitlistResponse>> join(@Valid @RequestBody EnrollmentRequest request) {
+        WaitlistResponse response = waitlistService.join(request.getStudentId(), request.getCourseId());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "대기 상태 조회", description = "대기 중이면 현재 순번(position)을 함께 반환합니다.")
+    @GetMapping("/waitlist/{id}")
+    public ResponseEntity<ApiResponse<WaitlistResponse>> getEntry(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(waitlistService.getEntry(id)));
+    }
+
+    @DeleteMapping("/waitlist/{id}")
+    public ResponseEntity<ApiResponse<WaitlistResponse>> leave(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(waitlistService.leave(id)));
+    }
+
+    @GetMapping("/students/{studentId}/waitlist")
+    public ResponseEntity<ApiResponse<List<WaitlistResponse>>> getStudentWaitlist(@PathVariable Long studentId) {
+        return ResponseEntity.ok(ApiResponse.success(waitlistService.getStudentWaitlist(studentId)));
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalTime;
 import lombok.AccessLevel;
@@ -23,7 +24,8 @@ import lombok.NoArgsConstructor;
 public class CourseSchedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_schedule_seq")
+    @SequenceGenerator(name = "course_schedule_seq", sequenceName = "course_schedule_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,6 +57,10 @@ public class CourseSchedule {
     }
 
     public String toDisplayString() {
+        return toDisplayString(dayOfWeek, startTime, endTime);
+    }
+
+    public static String toDisplayString(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
         return String.format("%s %s-%s",
                 dayOfWeek.getKorean(),
                 startTime.toString(),
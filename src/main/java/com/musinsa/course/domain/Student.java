@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -20,7 +21,8 @@ import lombok.NoArgsConstructor;
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "student_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -36,10 +38,30 @@ public class Student {
     @JoinColumn(name = "department_id", nullable = false)
     private Department department;
 
+    // 현재 수강신청한 학점 합계. 학생 행 락을 잡은 트랜잭션에서만 변경한다.
+    @Column(nullable = false)
+    private int enrolledCredits;
+
     public Student(String studentNumber, String name, int grade, Department department) {
         this.studentNumber = studentNumber;
         this.name = name;
         this.grade = grade;
         this.department = department;
+        this.enrolledCredits = 0;
+    }
+
+    public void addCredits(int credits) {
+        this.enrolledCredits += credits;
+    }
+
+    /**
+     * 0 아래로 내려가면 누적 학점이 수강신청 내역과 어긋난 것이므로 덮지 않고 예외를 던져 트랜잭션을 되돌린다.
+     */
+    public void subtractCredits(int credits) {
+        if (credits > this.enrolledCredits) {
+            throw new IllegalStateException("학생 " + id + "의 누적 학점(" + enrolledCredits
+                    + ")이 취소할 학점(" + credits + ")보다 작습니다 - 수강신청 내역과 어긋남");
+        }
+        this.enrolledCredits -= credits;
     }
 }
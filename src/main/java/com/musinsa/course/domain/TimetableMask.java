@@ -0,0 +1,135 @@
+package com.musinsa.course.domain;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * 주간 시간표를 분 단위 비트마스크로 표현한다. (월~금 x 1440분)
+ * 두 시간표의 충돌 여부는 비트 AND 한 번으로 판단한다.
+ *
+ * <p>분 단위로 맞춘 시각이면 {@link CourseSchedule#overlapsWith}와 같은 반열린 구간 [시작, 종료) 의미라
+ * 9:00-10:30과 10:30-12:00은 겹치지 않는다. 초가 있는 시각은 시작을 분 단위로 내리고 종료를 올리므로,
+ * 같은 분 안에서 끝나고 시작하는 두 수업(예: 10:30:30 종료와 10:30:45 시작)은 {@code overlapsWith}와 달리
+ * 충돌로 본다. 충돌을 놓치지 않는 쪽으로만 어긋난다.
+ */
+public final class TimetableMask {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORDS = (DayOfWeek.values().length * MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    public static final TimetableMask EMPTY = new TimetableMask(new long[WORDS], WORDS, -1);
+
+    private final long[] words;
+
+    // 비트가 존재하는 워드 범위 [first, last], 비어 있으면 first > last
+    private final int first;
+    private final int last;
+
+    private TimetableMask(long[] words, int first, int last) {
+        this.words = words;
+        this.first = first;
+        this.last = last;
+    }
+
+    public static TimetableMask of(DayOfWeek day, LocalTime startTime, LocalTime endTime) {
+        int dayOffset = day.ordinal() * MINUTES_PER_DAY;
+        int from = dayOffset + startTime.toSecondOfDay() / 60;
+        // 초 단위 종료 시각은 올림 처리해 충돌을 놓치지 않는다
+        int to = dayOffset + (endTime.toSecondOfDay() + 59) / 60;
+        if (from >= to) {
+            return EMPTY;
+        }
+        long[] words = new long[WORDS];
+        setRange(words, from, to);
+        return new TimetableMask(words, from / Long.SIZE, (to - 1) / Long.SIZE);
+    }
+
+    public static TimetableMask of(Iterable<CourseSchedule> schedules) {
+        TimetableMask mask = EMPTY;
+        for (CourseSchedule schedule : schedules) {
+            mask = mask.or(of(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime()));
+        }
+        return mask;
+    }
+
+    public static TimetableMask union(Iterable<TimetableMask> masks) {
+        long[] words = null;
+        int first = WORDS;
+        int last = -1;
+        for (TimetableMask mask : masks) {
+            if (mask.isEmpty()) {
+                continue;
+            }
+            if (words == null) {
+                words = new long[WORDS];
+            }
+            for (int i = mask.first; i <= mask.last; i++) {
+                words[i] |= mask.words[i];
+            }
+            first = Math.min(first, mask.first);
+            last = Math.max(last, mask.last);
+        }
+        return words == null ? EMPTY : new TimetableMask(words, first, last);
+    }
+
+    public TimetableMask or(TimetableMask other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return other;
+        }
+        long[] merged = Arrays.copyOf(words, WORDS);
+        for (int i = other.first; i <= other.last; i++) {
+            merged[i] |= other.words[i];
+        }
+        return new TimetableMask(merged, Math.min(first, other.first), Math.max(last, other.last));
+    }
+
+    public boolean intersects(TimetableMask other) {
+        int from = Math.max(first, other.first);
+        int to = Math.min(last, other.last);
+        for (int i = from; i <= to; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return first > last;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TimetableMask other)) {
+            return false;
+        }
+        return Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    private static void setRange(long[] words, int from, int to) {
+        int fromWord = from / Long.SIZE;
+        int toWord = (to - 1) / Long.SIZE;
+        long firstMask = -1L << (from % Long.SIZE);
+        long lastMask = -1L >>> (Long.SIZE - 1 - (to - 1) % Long.SIZE);
+        if (fromWord == toWord) {
+            words[fromWord] |= firstMask & lastMask;
+            return;
+        }
+        words[fromWord] |= firstMask;
+        for (int i = fromWord + 1; i < toWord; i++) {
+            words[i] = -1L;
+        }
+        words[toWord] |= lastMask;
+    }
+}
@@ -0,0 +1,84 @@
+package com.musinsa.course.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정원이 찬 강좌의 대기 순번. 강좌 안에서 ID 순서(먼저 등록한 순)로 승격한다.
+ */
+@Entity
+@Table(name = "waitlist_entries",
+        indexes = @Index(name = "idx_waitlist_course_status", columnList = "course_id, status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entry_seq")
+    @SequenceGenerator(name = "waitlist_entry_seq", sequenceName = "waitlist_entry_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    private Course course;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private WaitlistStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime resolvedAt;
+
+    // 건너뛴 사유 (SKIPPED일 때만)
+    private String reason;
+
+    public WaitlistEntry(Student student, Course course) {
+        this.student = student;
+        this.course = course;
+        this.status = WaitlistStatus.WAITING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isWaiting() {
+        return status == WaitlistStatus.WAITING;
+    }
+
+    public void promote() {
+        resolve(WaitlistStatus.PROMOTED, null);
+    }
+
+    public void skip(String reason) {
+        resolve(WaitlistStatus.SKIPPED, reason);
+    }
+
+    public void cancel() {
+        resolve(WaitlistStatus.CANCELLED, null);
+    }
+
+    private void resolve(WaitlistStatus status, String reason) {
+        this.status = status;
+        this.reason = reason;
+        this.resolvedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.musinsa.course.domain;
+
+public enum WaitlistStatus {
+    // 빈자리를 기다리는 중
+    WAITING,
+    // 빈자리가 나서 수강신청 완료
+    PROMOTED,
+    // 차례가 왔지만 학점/시간 충돌 등으로 신청할 수 없어 건너뜀
+    SKIPPED,
+    // 학생이 직접 대기 취소
+    CANCELLED
+}
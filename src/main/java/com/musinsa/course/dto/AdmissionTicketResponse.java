@@ -0,0 +1,26 @@
+package com.musinsa.course.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AdmissionTicketResponse {
+
+    private final String ticketId;
+    private final Long courseId;
+    // WAITING, ADMITTED, USED, EXPIRED
+    private final String status;
+    // 대기 중일 때만: 내 앞에 남은 인원 + 1
+    private final Long position;
+    private final Long estimatedWaitSeconds;
+
+    public AdmissionTicketResponse(String ticketId, Long courseId, String status,
+                                   Long position, Long estimatedWaitSeconds) {
+        this.ticketId = ticketId;
+        this.courseId = courseId;
+        this.status = status;
+        this.position = position;
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+    }
+}
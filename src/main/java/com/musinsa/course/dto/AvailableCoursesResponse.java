@@ -0,0 +1,21 @@
+package com.musinsa.course.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class AvailableCoursesResponse {
+
+    private final Long studentId;
+    private final int enrolledCredits;
+    private final int remainingCredits;
+    private final List<CourseResponse> courses;
+
+    public AvailableCoursesResponse(Long studentId, int enrolledCredits, int remainingCredits,
+                                    List<CourseResponse> courses) {
+        this.studentId = studentId;
+        this.enrolledCredits = enrolledCredits;
+        this.remainingCredits = remainingCredits;
+        this.courses = courses;
+    }
+}
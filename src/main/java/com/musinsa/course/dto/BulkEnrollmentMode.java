@@ -0,0 +1,11 @@
+package com.musinsa.course.dto;
+
+/**
+ * 일괄 수강신청 적용 방식.
+ */
+public enum BulkEnrollmentMode {
+    /** 한 강좌라도 실패하면 아무것도 신청하지 않는다 */
+    ALL_OR_NOTHING,
+    /** 통과한 강좌만 신청한다 */
+    BEST_EFFORT
+}
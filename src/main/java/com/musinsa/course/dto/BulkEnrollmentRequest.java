@@ -0,0 +1,27 @@
+package com.musinsa.course.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class BulkEnrollmentRequest {
+
+    @NotNull(message = "학생 ID는 필수입니다")
+    private Long studentId;
+
+    @NotEmpty(message = "강좌 ID 목록은 필수입니다")
+    @Size(max = 20, message = "한 번에 최대 20개 강좌까지 신청할 수 있습니다")
+    private List<@NotNull(message = "강좌 ID는 필수입니다") Long> courseIds;
+
+    // 생략하면 BEST_EFFORT
+    private BulkEnrollmentMode mode;
+
+    public BulkEnrollmentMode getMode() {
+        return mode != null ? mode : BulkEnrollmentMode.BEST_EFFORT;
+    }
+}
@@ -0,0 +1,27 @@
+package com.musinsa.course.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class BulkEnrollmentResponse {
+
+    private final Long studentId;
+    private final BulkEnrollmentMode mode;
+    private final int enrolledCount;
+    private final int rejectedCount;
+    // 요청한 순서(중복 제거)대로의 강좌별 결과
+    private final List<BulkEnrollmentResult> results;
+
+    public BulkEnrollmentResponse(Long studentId, BulkEnrollmentMode mode, List<BulkEnrollmentResult> results) {
+        this.studentId = studentId;
+        this.mode = mode;
+        this.enrolledCount = count(results, BulkEnrollmentResult.Status.ENROLLED);
+        this.rejectedCount = count(results, BulkEnrollmentResult.Status.REJECTED);
+        this.results = results;
+    }
+
+    private static int count(List<BulkEnrollmentResult> results, BulkEnrollmentResult.Status status) {
+        return (int) results.stream().filter(r -> r.getStatus() == status).count();
+    }
+}
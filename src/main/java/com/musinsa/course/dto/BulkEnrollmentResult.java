@@ -0,0 +1,49 @@
+package com.musinsa.course.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 일괄 수강신청의 강좌별 결과.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkEnrollmentResult {
+
+    public enum Status {
+        /** 수강신청 완료 */
+        ENROLLED,
+        /** 규칙 위반으로 거절 (code, message에 사유) */
+        REJECTED,
+        /** 검증은 통과했지만 ALL_OR_NOTHING에서 다른 강좌가 거절되어 신청하지 않음 */
+        NOT_APPLIED
+    }
+
+    private final Long courseId;
+    private final Status status;
+    private final String code;
+    private final String message;
+    private final EnrollmentResponse enrollment;
+
+    private BulkEnrollmentResult(Long courseId, Status status, String code, String message,
+                                 EnrollmentResponse enrollment) {
+        this.courseId = courseId;
+        this.status = status;
+        this.code = code;
+        this.message = message;
+        this.enrollment = enrollment;
+    }
+
+    public static BulkEnrollmentResult enrolled(EnrollmentResponse enrollment) {
+        return new BulkEnrollmentResult(enrollment.getCourseId(), Status.ENROLLED, null, null, enrollment);
+    }
+
+    public static BulkEnrollmentResult rejected(Long courseId, String code, String message) {
+        return new BulkEnrollmentResult(courseId, Status.REJECTED, code, message, null);
+    }
+
+    public static BulkEnrollmentResult notApplied(Long courseId) {
+        return new BulkEnrollmentResult(courseId, Status.NOT_APPLIED, null,
+                "다른 강좌의 신청이 거절되어 신청하지 않았습니다", null);
+    }
+}
@@ -31,4 +31,23 @@ public class CourseResponse {
         this.professor = course.getProfessor().getName();
         this.department = course.getDepartment().getName();
     }
+
+    private CourseResponse(CourseResponse base, int enrolled) {
+        this.id = base.id;
+        this.name = base.name;
+        this.courseCode = base.courseCode;
+        this.credits = base.credits;
+        this.capacity = base.capacity;
+        this.enrolled = enrolled;
+        this.schedule = base.schedule;
+        this.professor = base.professor;
+        this.department = base.department;
+    }
+
+    /**
+     * 신청 인원만 바꾼 사본을 만든다. 나머지 정적 필드는 그대로 공유한다.
+     */
+    public CourseResponse withEnrolled(int enrolled) {
+        return enrolled == this.enrolled ? this : new CourseResponse(this, enrolled);
+    }
 }
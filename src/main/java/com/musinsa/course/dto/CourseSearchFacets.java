@@ -0,0 +1,27 @@
+package com.musinsa.course.dto;
+
+import com.musinsa.course.domain.DayOfWeek;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * 강좌 검색 결과의 필터별 건수. 각 항목은 자기 필터를 뺀 나머지 조건으로 센 값이라,
+ * 학과를 하나 고른 상태에서도 다른 학과를 골랐을 때의 건수를 보여줄 수 있다.
+ */
+@Getter
+public class CourseSearchFacets {
+
+    // 건수 내림차순
+    private final Map<String, Integer> departments;
+    // 학점 오름차순
+    private final Map<Integer, Integer> credits;
+    // 요일순
+    private final Map<DayOfWeek, Integer> days;
+
+    public CourseSearchFacets(Map<String, Integer> departments, Map<Integer, Integer> credits,
+                              Map<DayOfWeek, Integer> days) {
+        this.departments = departments;
+        this.credits = credits;
+        this.days = days;
+    }
+}
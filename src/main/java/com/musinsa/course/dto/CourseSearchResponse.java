@@ -0,0 +1,21 @@
+package com.musinsa.course.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class CourseSearchResponse {
+
+    private final String query;
+    // 조건에 맞는 전체 건수 (courses는 size까지만)
+    private final int total;
+    private final List<CourseResponse> courses;
+    private final CourseSearchFacets facets;
+
+    public CourseSearchResponse(String query, int total, List<CourseResponse> courses, CourseSearchFacets facets) {
+        this.query = query;
+        this.total = total;
+        this.courses = courses;
+        this.facets = facets;
+    }
+}
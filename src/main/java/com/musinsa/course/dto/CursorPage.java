@@ -0,0 +1,24 @@
+package com.musinsa.course.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 커서(keyset) 기반 목록 응답. 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 넘겨 조회한다.
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    // 마지막 페이지면 null
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
+    }
+}
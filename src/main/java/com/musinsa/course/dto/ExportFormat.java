@@ -0,0 +1,38 @@
+package com.musinsa.course.dto;
+
+import com.musinsa.course.exception.UnsupportedExportFormatException;
+
+/**
+ * 내보내기 형식.
+ */
+public enum ExportFormat {
+    /** 한 줄에 JSON 객체 하나 */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** 첫 줄 헤더, RFC 4180 따옴표 규칙 */
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat parse(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new UnsupportedExportFormatException(value);
+    }
+}
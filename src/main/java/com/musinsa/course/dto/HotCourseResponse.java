@@ -0,0 +1,31 @@
+package com.musinsa.course.dto;
+
+import lombok.Getter;
+
+@Getter
+public class HotCourseResponse {
+
+    private final Long courseId;
+    private final String courseName;
+    private final int waiting;
+    private final int maxQueueDepth;
+    private final long acquisitions;
+    // 락 대기 시간 초과 등으로 획득하지 못한 횟수 (대기 시간은 totalWaitMs/maxWaitMs에 포함)
+    private final long failures;
+    private final double totalWaitMs;
+    private final double maxWaitMs;
+    private final double avgHoldMs;
+
+    public HotCourseResponse(Long courseId, String courseName, int waiting, int maxQueueDepth, long acquisitions,
+                             long failures, double totalWaitMs, double maxWaitMs, double avgHoldMs) {
+        this.courseId = courseId;
+        this.courseName = courseName;
+        this.waiting = waiting;
+        this.maxQueueDepth = maxQueueDepth;
+        this.acquisitions = acquisitions;
+        this.failures = failures;
+        this.totalWaitMs = totalWaitMs;
+        this.maxWaitMs = maxWaitMs;
+        this.avgHoldMs = avgHoldMs;
+    }
+}
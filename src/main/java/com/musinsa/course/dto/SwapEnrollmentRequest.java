@@ -0,0 +1,13 @@
+package com.musinsa.course.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SwapEnrollmentRequest {
+
+    @NotNull(message = "신청할 강좌 ID는 필수입니다")
+    private Long courseId;
+}
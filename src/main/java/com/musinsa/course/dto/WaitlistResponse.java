@@ -0,0 +1,35 @@
+package com.musinsa.course.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.musinsa.course.domain.WaitlistEntry;
+import com.musinsa.course.domain.WaitlistStatus;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitlistResponse {
+
+    private final Long id;
+    private final Long studentId;
+    private final Long courseId;
+    private final String courseName;
+    private final WaitlistStatus status;
+    // 대기 중일 때만: 1이면 다음 빈자리의 승격 대상
+    private final Long position;
+    private final String reason;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime resolvedAt;
+
+    public WaitlistResponse(WaitlistEntry entry, Long position) {
+        this.id = entry.getId();
+        this.studentId = entry.getStudent().getId();
+        this.courseId = entry.getCourse().getId();
+        this.courseName = entry.getCourse().getName();
+        this.status = entry.getStatus();
+        this.position = position;
+        this.reason = entry.getReason();
+        this.createdAt = entry.getCreatedAt();
+        this.resolvedAt = entry.getResolvedAt();
+    }
+}
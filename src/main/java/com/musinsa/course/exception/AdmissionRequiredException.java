@@ -0,0 +1,10 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AdmissionRequiredException extends BusinessException {
+
+    public AdmissionRequiredException(String message) {
+        super("ADMISSION_REQUIRED", HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+}
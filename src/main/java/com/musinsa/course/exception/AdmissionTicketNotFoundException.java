@@ -0,0 +1,10 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AdmissionTicketNotFoundException extends BusinessException {
+
+    public AdmissionTicketNotFoundException(String ticketId) {
+        super("TICKET_NOT_FOUND", HttpStatus.NOT_FOUND, "대기 번호표를 찾을 수 없습니다 (ID: " + ticketId + ")");
+    }
+}
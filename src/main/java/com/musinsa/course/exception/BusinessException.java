@@ -0,0 +1,27 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * API 오류 응답으로 내보내는 도메인 예외. 오류 코드와 HTTP 상태는 예외 타입마다 여기서 한 번만 정하고,
+ * {@link GlobalExceptionHandler}와 일괄 수강신청의 강좌별 거절 사유가 같은 값을 쓴다.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    private final String code;
+    private final HttpStatus status;
+
+    protected BusinessException(String code, HttpStatus status, String message) {
+        super(message);
+        this.code = code;
+        this.status = status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
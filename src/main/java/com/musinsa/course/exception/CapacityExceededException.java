@@ -1,8 +1,10 @@
 package com.musinsa.course.exception;
 
-public class CapacityExceededException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class CapacityExceededException extends BusinessException {
 
     public CapacityExceededException(String courseName, int capacity) {
-        super("강좌 정원이 초과되었습니다 ('" + courseName + "' 정원: " + capacity + "명)");
+        super("CAPACITY_EXCEEDED", HttpStatus.CONFLICT, "강좌 정원이 초과되었습니다 ('" + courseName + "' 정원: " + capacity + "명)");
     }
 }
@@ -1,8 +1,10 @@
 package com.musinsa.course.exception;
 
-public class CourseNotFoundException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class CourseNotFoundException extends BusinessException {
 
     public CourseNotFoundException(Long id) {
-        super("강좌를 찾을 수 없습니다 (ID: " + id + ")");
+        super("COURSE_NOT_FOUND", HttpStatus.NOT_FOUND, "강좌를 찾을 수 없습니다 (ID: " + id + ")");
     }
 }
@@ -1,8 +1,11 @@
 package com.musinsa.course.exception;
 
-public class CreditLimitExceededException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class CreditLimitExceededException extends BusinessException {
 
     public CreditLimitExceededException(int currentCredits, int requestedCredits) {
-        super("최대 18학점까지만 신청 가능합니다 (현재: " + currentCredits + "학점, 신청: " + requestedCredits + "학점)");
+        super("CREDIT_LIMIT_EXCEEDED", HttpStatus.BAD_REQUEST,
+                "최대 18학점까지만 신청 가능합니다 (현재: " + currentCredits + "학점, 신청: " + requestedCredits + "학점)");
     }
 }
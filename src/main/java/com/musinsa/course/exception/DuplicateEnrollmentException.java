@@ -1,8 +1,10 @@
 package com.musinsa.course.exception;
 
-public class DuplicateEnrollmentException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class DuplicateEnrollmentException extends BusinessException {
 
     public DuplicateEnrollmentException(String courseName) {
-        super("이미 수강신청한 강좌입니다 ('" + courseName + "')");
+        super("DUPLICATE_ENROLLMENT", HttpStatus.CONFLICT, "이미 수강신청한 강좌입니다 ('" + courseName + "')");
     }
 }
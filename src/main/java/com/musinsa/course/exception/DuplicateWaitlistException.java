@@ -0,0 +1,10 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DuplicateWaitlistException extends BusinessException {
+
+    public DuplicateWaitlistException(String courseName) {
+        super("DUPLICATE_WAITLIST", HttpStatus.CONFLICT, "이미 대기 중인 강좌입니다 ('" + courseName + "')");
+    }
+}
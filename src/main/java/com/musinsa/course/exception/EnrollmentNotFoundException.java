@@ -1,8 +1,10 @@
 package com.musinsa.course.exception;
 
-public class EnrollmentNotFoundException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class EnrollmentNotFoundException extends BusinessException {
 
     public EnrollmentNotFoundException(Long id) {
-        super("수강신청 내역을 찾을 수 없습니다 (ID: " + id + ")");
+        super("ENROLLMENT_NOT_FOUND", HttpStatus.NOT_FOUND, "수강신청 내역을 찾을 수 없습니다 (ID: " + id + ")");
     }
 }
@@ -0,0 +1,11 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class EnrollmentTimeoutException extends BusinessException {
+
+    public EnrollmentTimeoutException(long timeoutMillis) {
+        super("ENROLLMENT_TIMEOUT", HttpStatus.SERVICE_UNAVAILABLE,
+                "수강신청 처리 결과를 " + timeoutMillis + "ms 안에 받지 못했습니다. 수강신청 내역을 확인한 뒤 다시 시도해주세요");
+    }
+}
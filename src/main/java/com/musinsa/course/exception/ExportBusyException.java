@@ -0,0 +1,11 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ExportBusyException extends BusinessException {
+
+    public ExportBusyException(int maxConcurrent) {
+        super("EXPORT_BUSY", HttpStatus.SERVICE_UNAVAILABLE,
+                "진행 중인 내보내기가 많습니다 (최대 " + maxConcurrent + "건). 잠시 후 다시 시도해주세요");
+    }
+}
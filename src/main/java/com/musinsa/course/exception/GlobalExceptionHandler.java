@@ -5,55 +5,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
-    @ExceptionHandler(CourseNotFoundException.class)
-    public ResponseEntity<ApiResponse<Void>> handleCourseNotFound(CourseNotFoundException e) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ApiResponse.error("COURSE_NOT_FOUND", e.getMessage()));
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBusiness(BusinessException e) {
+        return ResponseEntity.status(e.getStatus())
+                .body(ApiResponse.error(e.getCode(), e.getMessage()));
     }
 
-    @ExceptionHandler(StudentNotFoundException.class)
-    public ResponseEntity<ApiResponse<Void>> handleStudentNotFound(StudentNotFoundException e) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ApiResponse.error("STUDENT_NOT_FOUND", e.getMessage()));
-    }
-
-    @ExceptionHandler(EnrollmentNotFoundException.class)
-    public ResponseEntity<ApiResponse<Void>> handleEnrollmentNotFound(EnrollmentNotFoundException e) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ApiResponse.error("ENROLLMENT_NOT_FOUND", e.getMessage()));
-    }
-
-    @ExceptionHandler(CapacityExceededException.class)
-    public ResponseEntity<ApiResponse<Void>> handleCapacityExceeded(CapacityExceededException e) {
-        return ResponseEntity.status(HttpStatus.CONFLICT)
-                .body(ApiResponse.error("CAPACITY_EXCEEDED", e.getMessage()));
-    }
-
-    @ExceptionHandler(CreditLimitExceededException.class)
-    public ResponseEntity<ApiResponse<Void>> handleCreditLimitExceeded(CreditLimitExceededException e) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error("CREDIT_LIMIT_EXCEEDED", e.getMessage()));
-    }
-
-    @ExceptionHandler(TimeConflictException.class)
-    public ResponseEntity<ApiResponse<Void>> handleTimeConflict(TimeConflictException e) {
-        return ResponseEntity.status(HttpStatus.CONFLICT)
-                .body(ApiResponse.error("TIME_CONFLICT", e.getMessage()));
-    }
-
-    @ExceptionHandler(DuplicateEnrollmentException.class)
-    public ResponseEntity<ApiResponse<Void>> handleDuplicateEnrollment(DuplicateEnrollmentException e) {
-        return ResponseEntity.status(HttpStatus.CONFLICT)
-                .body(ApiResponse.error("DUPLICATE_ENROLLMENT", e.getMessage()));
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDatabaseBusy(CannotCreateTransactionException e) {
+        log.warn("DB 커넥션 획득 실패: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("DATABASE_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -66,6 +39,12 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("VALIDATION_ERROR", message));
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("VALIDATION_ERROR", e.getName() + ": 값의 형식이 올바르지 않습니다"));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGeneral(Exception e) {
         log.error("Unexpected error", e);
@@ -0,0 +1,10 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyReusedException extends BusinessException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("IDEMPOTENCY_KEY_REUSED", HttpStatus.CONFLICT, "다른 수강신청 요청에 이미 사용한 Idempotency-Key입니다: " + key);
+    }
+}
@@ -0,0 +1,10 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException() {
+        super("INVALID_CURSOR", HttpStatus.BAD_REQUEST, "유효하지 않은 cursor입니다. 첫 페이지부터 다시 조회해주세요");
+    }
+}
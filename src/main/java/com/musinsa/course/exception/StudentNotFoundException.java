@@ -1,8 +1,10 @@
 package com.musinsa.course.exception;
 
-public class StudentNotFoundException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class StudentNotFoundException extends BusinessException {
 
     public StudentNotFoundException(Long id) {
-        super("학생을 찾을 수 없습니다 (ID: " + id + ")");
+        super("STUDENT_NOT_FOUND", HttpStatus.NOT_FOUND, "학생을 찾을 수 없습니다 (ID: " + id + ")");
     }
 }
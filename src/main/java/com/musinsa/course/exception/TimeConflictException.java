@@ -1,8 +1,10 @@
 package com.musinsa.course.exception;
 
-public class TimeConflictException extends RuntimeException {
+import org.springframework.http.HttpStatus;
+
+public class TimeConflictException extends BusinessException {
 
     public TimeConflictException(String existingCourseName, String schedule) {
-        super("'" + existingCourseName + "'과(와) 시간이 겹칩니다 (" + schedule + ")");
+        super("TIME_CONFLICT", HttpStatus.CONFLICT, "'" + existingCourseName + "'과(와) 시간이 겹칩니다 (" + schedule + ")");
     }
 }
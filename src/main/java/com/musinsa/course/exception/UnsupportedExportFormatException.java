@@ -0,0 +1,10 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class UnsupportedExportFormatException extends BusinessException {
+
+    public UnsupportedExportFormatException(String format) {
+        super("UNSUPPORTED_FORMAT", HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다: " + format + " (ndjson, csv)");
+    }
+}
@@ -0,0 +1,10 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class WaitlistEntryNotFoundException extends BusinessException {
+
+    public WaitlistEntryNotFoundException(Long id) {
+        super("WAITLIST_NOT_FOUND", HttpStatus.NOT_FOUND, "대기 내역을 찾을 수 없습니다 (ID: " + id + ")");
+    }
+}
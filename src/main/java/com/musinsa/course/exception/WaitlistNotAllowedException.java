@@ -0,0 +1,10 @@
+package com.musinsa.course.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class WaitlistNotAllowedException extends BusinessException {
+
+    public WaitlistNotAllowedException(String courseName) {
+        super("WAITLIST_NOT_ALLOWED", HttpStatus.CONFLICT, "정원이 남아 있어 바로 수강신청할 수 있습니다 ('" + courseName + "')");
+    }
+}
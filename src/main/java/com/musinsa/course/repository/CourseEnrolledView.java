@@ -0,0 +1,11 @@
+package com.musinsa.course.repository;
+
+/**
+ * 강좌 목록 스냅샷의 신청 인원 보정용. 엔티티를 영속성 컨텍스트에 올리지 않기 위해 프로젝션으로 조회한다.
+ */
+public interface CourseEnrolledView {
+
+    Long getId();
+
+    int getEnrolled();
+}
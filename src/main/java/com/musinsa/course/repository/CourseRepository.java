@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,11 +16,30 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c WHERE c.id = :id")
     Optional<Course> findByIdWithLock(@Param("id") Long id);
 
+    // 조건부 UPDATE 좌석 확보: 읽기 락 없이 정원 비교와 증가를 한 문장으로 처리, 0이면 마감
+    @Modifying
+    @Query("UPDATE Course c SET c.enrolled = c.enrolled + 1 WHERE c.id = :id AND c.enrolled < c.capacity")
+    int incrementEnrolledIfAvailable(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Course c SET c.enrolled = c.enrolled - 1 WHERE c.id = :id AND c.enrolled > 0")
+    int decrementEnrolled(@Param("id") Long id);
+
+    @Query("SELECT c.name AS name, c.capacity AS capacity, c.enrolled AS enrolled FROM Course c WHERE c.id = :id")
+    Optional<CourseSeatView> findSeatViewById(@Param("id") Long id);
+
+    @Query("SELECT c.id AS id, c.enrolled AS enrolled FROM Course c")
+    List<CourseEnrolledView> findAllEnrolledCounts();
+
     List<Course> findByDepartmentId(Long departmentId);
 
     @Query("SELECT c FROM Course c JOIN FETCH c.department JOIN FETCH c.professor")
     List<Course> findAllWithDetails();
 
+    @Query("SELECT DISTINCT c FROM Course c JOIN FETCH c.department JOIN FETCH c.professor "
+            + "LEFT JOIN FETCH c.schedules ORDER BY c.id")
+    List<Course> findAllWithSchedules();
+
     @Query("SELECT c FROM Course c JOIN FETCH c.department JOIN FETCH c.professor WHERE c.department.name = :departmentName")
     List<Course> findByDepartmentNameWithDetails(@Param("departmentName") String departmentName);
 }
@@ -1,10 +1,18 @@
 package com.musinsa.course.repository;
 
 import com.musinsa.course.domain.CourseSchedule;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CourseScheduleRepository extends JpaRepository<CourseSchedule, Long> {
 
     List<CourseSchedule> findByCourseId(Long courseId);
+
+    @Query("SELECT s.course.id AS courseId, s.course.name AS courseName, s.dayOfWeek AS dayOfWeek, "
+            + "s.startTime AS startTime, s.endTime AS endTime "
+            + "FROM CourseSchedule s WHERE s.course.id IN :courseIds")
+    List<ScheduleSlotView> findSlotsByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
 }
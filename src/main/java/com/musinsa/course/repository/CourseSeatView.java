@@ -0,0 +1,13 @@
+package com.musinsa.course.repository;
+
+/**
+ * 좌석 카운터 초기화용 강좌 요약. 엔티티를 영속성 컨텍스트에 올리지 않기 위해 프로젝션으로 조회한다.
+ */
+public interface CourseSeatView {
+
+    String getName();
+
+    int getCapacity();
+
+    int getEnrolled();
+}
@@ -0,0 +1,8 @@
+package com.musinsa.course.repository;
+
+/**
+ * 학생이 수강 중인 강좌와 그 수업 시간을 한 행씩 담은 프로젝션.
+ * 수업 시간이 없는 강좌는 요일/시간이 null인 한 행으로 조회된다.
+ */
+public interface EnrolledSlotView extends ScheduleSlotView {
+}
@@ -0,0 +1,35 @@
+package com.musinsa.course.repository;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 수강신청 내보내기 한 행. JPQL 생성자 표현식으로 바로 만들어지므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ */
+@Getter
+public class EnrollmentExportRow {
+
+    private final Long enrollmentId;
+    private final Long studentId;
+    private final String studentNumber;
+    private final String studentName;
+    private final Long courseId;
+    private final String courseCode;
+    private final String courseName;
+    private final int credits;
+    private final LocalDateTime enrolledAt;
+
+    public EnrollmentExportRow(Long enrollmentId, Long studentId, String studentNumber, String studentName,
+                               Long courseId, String courseCode, String courseName, int credits,
+                               LocalDateTime enrolledAt) {
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.studentNumber = studentNumber;
+        this.studentName = studentName;
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.courseName = courseName;
+        this.credits = credits;
+        this.enrolledAt = enrolledAt;
+    }
+}
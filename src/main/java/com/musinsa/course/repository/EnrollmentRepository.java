@@ -1,10 +1,15 @@
 package com.musinsa.course.repository;
 
 import com.musinsa.course.domain.Enrollment;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
@@ -13,9 +18,42 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     Optional<Enrollment> findByStudentIdAndCourseId(Long studentId, Long courseId);
 
+    boolean existsByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    @Query("SELECT c.id AS courseId, c.name AS courseName, s.dayOfWeek AS dayOfWeek, "
+            + "s.startTime AS startTime, s.endTime AS endTime "
+            + "FROM Enrollment e JOIN e.course c LEFT JOIN c.schedules s WHERE e.student.id = :studentId "
+            + "ORDER BY e.id")
+    List<EnrolledSlotView> findEnrolledSlotsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT e.student.id AS studentId, c.id AS courseId, c.name AS courseName, s.dayOfWeek AS dayOfWeek, "
+            + "s.startTime AS startTime, s.endTime AS endTime "
+            + "FROM Enrollment e JOIN e.course c LEFT JOIN c.schedules s WHERE e.student.id IN :studentIds "
+            + "ORDER BY e.id")
+    List<StudentEnrolledSlotView> findEnrolledSlotsByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
     @Query("SELECT COALESCE(SUM(c.credits), 0) FROM Enrollment e JOIN e.course c WHERE e.student.id = :studentId")
     int sumCreditsByStudentId(@Param("studentId") Long studentId);
 
     @Query("SELECT e FROM Enrollment e JOIN FETCH e.course c JOIN FETCH c.department JOIN FETCH c.professor WHERE e.student.id = :studentId")
     List<Enrollment> findByStudentIdWithCourseDetails(@Param("studentId") Long studentId);
+
+    // 내보내기: 전진 전용 스트림으로 fetch size만큼씩 읽는다 (트랜잭션 안에서 소비 후 close)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.musinsa.course.repository.EnrollmentExportRow("
+            + "e.id, s.id, s.studentNumber, s.name, c.id, c.courseCode, c.name, c.credits, e.enrolledAt) "
+            + "FROM Enrollment e JOIN e.student s JOIN e.course c ORDER BY e.id")
+    Stream<EnrollmentExportRow> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.musinsa.course.repository.EnrollmentExportRow("
+            + "e.id, s.id, s.studentNumber, s.name, c.id, c.courseCode, c.name, c.credits, e.enrolledAt) "
+            + "FROM Enrollment e JOIN e.student s JOIN e.course c WHERE c.id = :courseId ORDER BY s.studentNumber")
+    Stream<EnrollmentExportRow> streamByCourseIdForExport(@Param("courseId") Long courseId);
 }
@@ -2,9 +2,24 @@ package com.musinsa.course.repository;
 
 import com.musinsa.course.domain.Professor;
 import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ProfessorRepository extends JpaRepository<Professor, Long> {
 
     List<Professor> findByDepartmentId(Long departmentId);
+
+    // keyset 페이지네이션: 마지막 행의 정렬 키 다음부터 limit + 1건만 조회 (OFFSET, COUNT 없음)
+    @EntityGraph(attributePaths = "department")
+    Window<Professor> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // COUNT 쿼리 없이 size + 1건으로 다음 페이지 유무만 판단
+    @EntityGraph(attributePaths = "department")
+    Slice<Professor> findAllBy(Pageable pageable);
 }
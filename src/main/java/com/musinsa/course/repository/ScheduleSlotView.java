@@ -0,0 +1,20 @@
+package com.musinsa.course.repository;
+
+import com.musinsa.course.domain.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 시간표 비트마스크 컴파일용 수업 시간 프로젝션.
+ */
+public interface ScheduleSlotView {
+
+    Long getCourseId();
+
+    String getCourseName();
+
+    DayOfWeek getDayOfWeek();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
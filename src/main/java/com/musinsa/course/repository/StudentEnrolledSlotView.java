@@ -0,0 +1,9 @@
+package com.musinsa.course.repository;
+
+/**
+ * 여러 학생의 수강 현황을 한 번에 조회할 때 사용하는 프로젝션.
+ */
+public interface StudentEnrolledSlotView extends EnrolledSlotView {
+
+    Long getStudentId();
+}
@@ -2,7 +2,15 @@ package com.musinsa.course.repository;
 
 import com.musinsa.course.domain.Student;
 import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -13,4 +21,16 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM Student s WHERE s.id = :id")
     Optional<Student> findByIdWithLock(@Param("id") Long id);
+
+    @Query("SELECT s.id FROM Student s WHERE s.enrolledCredits <> "
+            + "(SELECT COALESCE(SUM(c.credits), 0) FROM Enrollment e JOIN e.course c WHERE e.student = s)")
+    List<Long> findIdsWithCreditMismatch();
+
+    // keyset 페이지네이션: 마지막 행의 정렬 키 다음부터 limit + 1건만 조회 (OFFSET, COUNT 없음)
+    @EntityGraph(attributePaths = "department")
+    Window<Student> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // COUNT 쿼리 없이 size + 1건으로 다음 페이지 유무만 판단
+    @EntityGraph(attributePaths = "department")
+    Slice<Student> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,33 @@
+package com.musinsa.course.repository;
+
+import com.musinsa.course.domain.WaitlistEntry;
+import com.musinsa.course.domain.WaitlistStatus;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.id = :id")
+    Optional<WaitlistEntry> findByIdWithLock(@Param("id") Long id);
+
+    Optional<WaitlistEntry> findFirstByCourseIdAndStatusOrderByIdAsc(Long courseId, WaitlistStatus status);
+
+    boolean existsByCourseIdAndStatus(Long courseId, WaitlistStatus status);
+
+    boolean existsByStudentIdAndCourseIdAndStatus(Long studentId, Long courseId, WaitlistStatus status);
+
+    // 대기 순번 = 같은 강좌에서 먼저 등록해 아직 대기 중인 인원 + 1
+    long countByCourseIdAndStatusAndIdLessThan(Long courseId, WaitlistStatus status, Long id);
+
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.course WHERE w.student.id = :studentId ORDER BY w.id DESC")
+    List<WaitlistEntry> findByStudentIdWithCourse(@Param("studentId") Long studentId);
+
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.course WHERE w.id = :id")
+    Optional<WaitlistEntry> findByIdWithCourse(@Param("id") Long id);
+}
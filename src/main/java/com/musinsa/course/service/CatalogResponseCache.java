@@ -0,0 +1,169 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.dto.ApiResponse;
+import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.exception.CourseNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.util.RawValue;
+
+/**
+ * 강좌 조회 응답을 JSON 바이트로 미리 직렬화해 두는 캐시.
+ *
+ * <p>{@link CourseCatalog}의 버전이 바뀔 때만 다시 확인하고, 같은 버전 동안에는 같은 바이트와 ETag를 돌려준다.
+ * 버전은 어느 강좌든 신청/취소되면 바뀌므로, 응답마다 데이터 부분의 해시를 비교해 내용이 그대로면
+ * 이전 바이트와 ETag를 유지한다. 다른 강좌의 신청으로는 단건/학과별 응답의 ETag가 바뀌지 않아 폴링이 304로 끝난다.
+ * ETag는 서버 기동 시각과 내용 해시로 만들어 재기동 후 이전 ETag와 섞이지 않는다.
+ * 응답의 {@code timestamp}는 내용이 마지막으로 바뀌어 직렬화한 시각이다.
+ *
+ * <p>신청/취소가 몰리면 버전이 계속 바뀌므로, 데이터는 버전마다 한 번만 직렬화하고 같은 응답을 동시에 다시 만들려는
+ * 요청은 하나로 합친다.
+ */
+@Component
+public class CatalogResponseCache {
+
+    private static final String ALL_KEY = "all";
+
+    private final CourseService courseService;
+    private final CourseCatalog courseCatalog;
+    private final JsonMapper jsonMapper;
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+
+    private volatile Payload all;
+    private final ConcurrentHashMap<String, Payload> byDepartment = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Payload> byCourse = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Payload>> rebuilding = new ConcurrentHashMap<>();
+
+    public CatalogResponseCache(CourseService courseService, CourseCatalog courseCatalog, JsonMapper jsonMapper) {
+        this.courseService = courseService;
+        this.courseCatalog = courseCatalog;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public Payload getAll() {
+        long version = courseCatalog.getVersion();
+        Payload cached = all;
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+        Payload encoded = rebuild(ALL_KEY, () -> encode(version, courseService.getAllCourses(), cached));
+        all = encoded;
+        return encoded;
+    }
+
+    public Payload getByDepartment(String departmentName) {
+        long version = courseCatalog.getVersion();
+        Payload cached = byDepartment.get(departmentName);
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+        return rebuild("department:" + departmentName, () -> {
+            List<CourseResponse> courses = courseService.getCoursesByDepartment(departmentName);
+            Payload encoded = encode(version, courses, cached);
+            // 존재하지 않는 학과 이름으로 캐시가 무한히 커지지 않도록 강좌가 있는 학과만 보관
+            if (!courses.isEmpty()) {
+                byDepartment.put(departmentName, encoded);
+            }
+            return encoded;
+        });
+    }
+
+    /**
+     * @throws CourseNotFoundException 강좌가 없는 경우
+     */
+    public Payload getCourse(Long courseId) {
+        long version = courseCatalog.getVersion();
+        Payload cached = byCourse.get(courseId);
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+        return rebuild("course:" + courseId, () -> {
+            Payload encoded = encode(version, courseService.getCourseById(courseId), cached);
+            byCourse.put(courseId, encoded);
+            return encoded;
+        });
+    }
+
+    /**
+     * 같은 응답을 동시에 다시 만들려는 요청은 먼저 시작한 한 번의 결과를 함께 쓴다.
+     * 기다린 요청은 자기가 본 버전보다 조금 이른 시점의 내용을 받을 수 있지만, 먼저 도착한 요청과 같은 내용이다.
+     */
+    private Payload rebuild(String key, Supplier<Payload> build) {
+        CompletableFuture<Payload> mine = new CompletableFuture<>();
+        CompletableFuture<Payload> running = rebuilding.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            Payload payload = build.get();
+            mine.complete(payload);
+            return payload;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            rebuilding.remove(key, mine);
+        }
+    }
+
+    private Payload encode(long version, Object data, Payload previous) {
+        // 데이터는 한 번만 직렬화해 해시를 내고, 바뀌었으면 그 바이트를 응답 래퍼에 그대로 끼워 넣는다
+        byte[] json = jsonMapper.writeValueAsBytes(data);
+        String hash = hash(json);
+        if (previous != null && previous.hash.equals(hash)) {
+            return new Payload(version, previous.body, previous.etag, hash);
+        }
+        RawValue raw = new RawValue(new String(json, StandardCharsets.UTF_8));
+        byte[] body = jsonMapper.writeValueAsBytes(ApiResponse.success(raw));
+        return new Payload(version, body, "\"" + epoch + "-" + hash + "\"", hash);
+    }
+
+    // 내용 비교용 해시 (SHA-256 앞 16바이트)
+    private static String hash(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static final class Payload {
+
+        private final long version;
+        private final byte[] body;
+        private final String etag;
+        private final String hash;
+
+        private Payload(long version, byte[] body, String etag, String hash) {
+            this.version = version;
+            this.body = body;
+            this.etag = etag;
+            this.hash = hash;
+        }
+
+        /**
+         * 직렬화된 응답 본문. 공유되는 배열이므로 수정하면 안 된다.
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
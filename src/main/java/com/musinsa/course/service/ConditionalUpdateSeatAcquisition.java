@@ -0,0 +1,47 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.exception.CourseNotFoundException;
+import com.musinsa.course.repository.CourseRepository;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강좌는 락 없이 읽고, 검증을 마친 뒤 {@code UPDATE ... WHERE enrolled < capacity} 한 문장으로 좌석을 확보한다.
+ * 강좌 행 락은 UPDATE부터 커밋까지만 잡히므로 학생 락/시간표 조회/검증 동안 다른 신청을 막지 않는다.
+ * 학생 락 → 강좌 행 순서.
+ *
+ * <p>조회한 {@link Course} 엔티티의 enrolled 값은 갱신하지 않는다 (정원 판단은 UPDATE 결과 기준).
+ */
+@Component
+@ConditionalOnProperty(name = "course.enrollment.seat-acquisition", havingValue = "conditional-update")
+class ConditionalUpdateSeatAcquisition implements SeatAcquisitionStrategy {
+
+    private final CourseRepository courseRepository;
+    private final CourseContentionTracker contentionTracker;
+
+    ConditionalUpdateSeatAcquisition(CourseRepository courseRepository, CourseContentionTracker contentionTracker) {
+        this.courseRepository = courseRepository;
+        this.contentionTracker = contentionTracker;
+    }
+
+    @Override
+    public Course load(Long courseId) {
+        return courseRepository.findById(courseId)
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+    }
+
+    @Override
+    public boolean acquire(Course course) {
+        Long courseId = course.getId();
+        return contentionTracker.lock(courseId,
+                () -> Optional.of(courseRepository.incrementEnrolledIfAvailable(courseId))).orElseThrow() == 1;
+    }
+
+    @Override
+    public void release(Course course) {
+        Long courseId = course.getId();
+        contentionTracker.lock(courseId, () -> Optional.of(courseRepository.decrementEnrolled(courseId)));
+    }
+}
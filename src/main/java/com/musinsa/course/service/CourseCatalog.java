@@ -0,0 +1,373 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.TimetableMask;
+import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.dto.CourseSearchResponse;
+import com.musinsa.course.repository.CourseEnrolledView;
+import com.musinsa.course.repository.CourseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 강좌 목록 스냅샷 캐시.
+ *
+ * <p>이름/코드/교수/학과/시간표 같은 정적 필드는 스냅샷을 만들 때 한 번만 {@link CourseResponse}로 만들고,
+ * 신청 인원만 메모리 카운터에서 합쳐 응답한다. 수강신청/취소가 커밋되면 카운터와 버전이 바뀌고,
+ * 버전이 같은 동안에는 이미 만든 응답 목록을 그대로 재사용한다.
+ * 신청 인원은 화면 표시용이며, 정원 판단은 항상 DB 락 경로가 담당한다.
+ *
+ * <p>스냅샷을 DB에서 읽는 시점과 신청/취소 커밋 시점이 겹치면 카운터가 한 번 더 세거나 빠질 수 있으므로,
+ * {@code course.catalog.reconcile-seconds}마다 DB의 신청 인원을 다시 읽어 맞춘다.
+ * 읽는 동안 커밋 중이던 강좌는 DB 값에 포함되었는지 알 수 없으므로 건너뛰고 다음 주기에 맞춘다.
+ *
+ * <p>부분 검색 색인({@link CourseSearchIndex})도 스냅샷과 함께 만들어 검색이 DB(LIKE)를 거치지 않는다.
+ * 색인하는 필드는 스냅샷이 바뀔 때만 바뀌고, 검색 결과의 신청 인원은 카운터의 현재 값을 쓴다.
+ */
+@Component
+public class CourseCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseCatalog.class);
+
+    private final CourseRepository courseRepository;
+    private final AtomicLong version = new AtomicLong();
+    // 강좌별 신청 인원 변경 트랜잭션의 커밋 진행 상황 (보정할 때 커밋 중인 강좌를 가려낸다)
+    private final ConcurrentHashMap<Long, CommitWindow> commits = new ConcurrentHashMap<>();
+    private final long reconcileSeconds;
+    private final ScheduledExecutorService reconciler;
+
+    private volatile Snapshot snapshot;
+    private volatile View view;
+
+    public CourseCatalog(CourseRepository courseRepository,
+                         @Value("${course.catalog.reconcile-seconds:10}") long reconcileSeconds) {
+        this.courseRepository = courseRepository;
+        this.reconcileSeconds = reconcileSeconds;
+        this.reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (reconcileSeconds > 0) {
+            reconciler.scheduleWithFixedDelay(this::reconcileQuietly, reconcileSeconds, reconcileSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconciler.shutdownNow();
+    }
+
+    public List<CourseResponse> getAll() {
+        return currentView().all;
+    }
+
+    public List<CourseResponse> getByDepartment(String departmentName) {
+        View current = currentView();
+        // 스냅샷에 있는 학과만 캐시 (임의의 학과명 요청으로 캐시가 늘어나지 않도록)
+        if (!current.snapshot.departments.contains(departmentName)) {
+            return List.of();
+        }
+        return current.byDepartment.computeIfAbsent(departmentName, name -> current.all.stream()
+                .filter(course -> course.getDepartment().equals(name))
+                .toList());
+    }
+
+    public Optional<CourseResponse> find(Long courseId) {
+        Snapshot current = snapshot();
+        Integer position = current.positions.get(courseId);
+        if (position == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.courses.get(position).withEnrolled(current.enrolled.get(position)));
+    }
+
+    /**
+     * 강좌명/강좌코드/교수명(초성 포함) 부분 검색과 학과/학점/요일 필터.
+     *
+     * @param size 돌려줄 강좌 수 상한 (total은 전체 건수)
+     */
+    public CourseSearchResponse search(String query, String department, Integer credits, DayOfWeek day, int size) {
+        Snapshot current = snapshot();
+        CourseSearchIndex.Hits hits = current.index.search(query, department, credits, day, size);
+        List<CourseResponse> courses = new ArrayList<>(hits.positions().length);
+        for (int position : hits.positions()) {
+            courses.add(current.courses.get(position).withEnrolled(current.enrolled.get(position)));
+        }
+        return new CourseSearchResponse(query, hits.total(), courses, hits.facets());
+    }
+
+    /**
+     * 학생이 지금 신청할 수 있는 강좌: 좌석이 남아 있고, 수강 중인 시간표와 겹치지 않으며, 남은 학점 안에 드는 강좌.
+     * 강좌 시간표 마스크는 스냅샷에 미리 컴파일해 두므로 강좌마다 쿼리하지 않는다.
+     * 좌석은 커밋된 신청 인원 기준이라 실제 신청 시점에 마감될 수 있다.
+     */
+    public List<CourseResponse> findFitting(StudentTimetable timetable, int remainingCredits) {
+        Snapshot current = snapshot();
+        TimetableMask occupied = timetable.getMask();
+        List<CourseResponse> fitting = new ArrayList<>();
+        for (int i = 0; i < current.courses.size(); i++) {
+            CourseResponse course = current.courses.get(i);
+            int enrolled = current.enrolled.get(i);
+            if (enrolled >= course.getCapacity()
+                    || course.getCredits() > remainingCredits
+                    || timetable.contains(course.getId())
+                    || occupied.intersects(current.masks[i])) {
+                continue;
+            }
+            fitting.add(course.withEnrolled(enrolled));
+        }
+        return fitting;
+    }
+
+    /**
+     * 목록이 바뀔 때마다 증가하는 버전. 응답 캐시의 유효성 판단에 사용한다.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 강좌 신청 인원을 delta만큼 반영한다. 트랜잭션 밖에서 호출되면 즉시 반영한다.
+     */
+    public void recordEnrolledChange(Long courseId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyEnrolledChange(courseId, delta);
+            return;
+        }
+        CommitWindow window = commits.computeIfAbsent(courseId, id -> new CommitWindow());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean opened;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                window.open();
+                opened = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    applyEnrolledChange(courseId, delta);
+                }
+                if (opened) {
+                    window.close();
+                }
+            }
+        });
+    }
+
+    /**
+     * 스냅샷의 신청 인원을 DB 값으로 맞춘다. 조회하는 동안 커밋이 시작되거나 끝난 강좌는 건너뛴다.
+     *
+     * @return 값이 바뀐 강좌 수
+     */
+    int reconcile() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return 0;
+        }
+        Map<Long, Long> stamps = new HashMap<>();
+        for (Long courseId : current.positions.keySet()) {
+            long stamp = stampOf(courseId);
+            if (stamp >= 0) {
+                stamps.put(courseId, stamp);
+            }
+        }
+
+        int corrected = 0;
+        for (CourseEnrolledView row : courseRepository.findAllEnrolledCounts()) {
+            Long stamp = stamps.get(row.getId());
+            Integer position = current.positions.get(row.getId());
+            if (stamp == null || position == null) {
+                continue;
+            }
+            // 값을 먼저 읽고 커밋 진행 상황을 확인한 뒤 CAS로 바꿔, 그 사이 반영된 커밋을 덮어쓰지 않는다
+            int cached = current.enrolled.get(position);
+            if (stampOf(row.getId()) != stamp || cached == row.getEnrolled()) {
+                continue;
+            }
+            if (current.enrolled.compareAndSet(position, cached, row.getEnrolled())) {
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            version.incrementAndGet();
+            log.info("강좌 목록 신청 인원 보정 - {}개 강좌", corrected);
+        }
+        return corrected;
+    }
+
+    private void applyEnrolledChange(Long courseId, int delta) {
+        Snapshot current = snapshot;
+        Integer position = current == null ? null : current.positions.get(courseId);
+        if (position != null) {
+            current.enrolled.addAndGet(position, delta);
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 커밋 중인 트랜잭션이 없으면 커밋 시작/종료 횟수, 있으면 -1.
+     */
+    private long stampOf(Long courseId) {
+        CommitWindow window = commits.get(courseId);
+        if (window == null) {
+            return 0;
+        }
+        long changes = window.changes.get();
+        return window.committing.get() == 0 ? changes : -1;
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("강좌 목록 신청 인원 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 강좌 구성이 바뀌었을 때(초기 데이터 생성 등) 스냅샷을 버리고 다음 조회 때 다시 만든다.
+     */
+    public void invalidate() {
+        snapshot = null;
+        version.incrementAndGet();
+    }
+
+    private View currentView() {
+        Snapshot current = snapshot();
+        long currentVersion = version.get();
+        View cached = view;
+        if (cached != null && cached.version == currentVersion && cached.snapshot == current) {
+            return cached;
+        }
+
+        List<CourseResponse> all = new ArrayList<>(current.courses.size());
+        for (int i = 0; i < current.courses.size(); i++) {
+            all.add(current.courses.get(i).withEnrolled(current.enrolled.get(i)));
+        }
+        View rebuilt = new View(current, currentVersion, Collections.unmodifiableList(all));
+        view = rebuilt;
+        return rebuilt;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+                version.incrementAndGet();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        long start = System.currentTimeMillis();
+        List<Course> courses = courseRepository.findAllWithSchedules();
+
+        List<CourseResponse> responses = new ArrayList<>(courses.size());
+        Map<Long, Integer> positions = new HashMap<>();
+        Set<String> departments = new HashSet<>();
+        AtomicIntegerArray enrolled = new AtomicIntegerArray(courses.size());
+        TimetableMask[] masks = new TimetableMask[courses.size()];
+        for (int i = 0; i < courses.size(); i++) {
+            Course course = courses.get(i);
+            responses.add(new CourseResponse(course));
+            positions.put(course.getId(), i);
+            departments.add(course.getDepartment().getName());
+            enrolled.set(i, course.getEnrolled());
+            masks[i] = TimetableMask.of(course.getSchedules());
+        }
+
+        CourseSearchIndex index = CourseSearchIndex.build(courses);
+
+        log.info("강좌 목록 스냅샷 생성 - {}개 ({}ms)", courses.size(), System.currentTimeMillis() - start);
+        return new Snapshot(List.copyOf(responses), Map.copyOf(positions), Set.copyOf(departments),
+                enrolled, masks, index);
+    }
+
+    private static final class Snapshot {
+
+        private final List<CourseResponse> courses;
+        private final Map<Long, Integer> positions;
+        private final Set<String> departments;
+        private final AtomicIntegerArray enrolled;
+        private final TimetableMask[] masks;
+        private final CourseSearchIndex index;
+
+        private Snapshot(List<CourseResponse> courses, Map<Long, Integer> positions, Set<String> departments,
+                         AtomicIntegerArray enrolled, TimetableMask[] masks, CourseSearchIndex index) {
+            this.courses = courses;
+            this.positions = positions;
+            this.departments = departments;
+            this.enrolled = enrolled;
+            this.masks = masks;
+            this.index = index;
+        }
+    }
+
+    /**
+     * 강좌 하나의 신청 인원 변경 트랜잭션 커밋 구간. 커밋 시작(beforeCommit)부터 카운터 반영(afterCompletion)까지를
+     * 커밋 중으로 보고, 시작과 끝마다 changes를 올려 보정 중에 커밋이 지나갔는지 알아낸다.
+     */
+    private static final class CommitWindow {
+
+        private final AtomicInteger committing = new AtomicInteger();
+        private final AtomicLong changes = new AtomicLong();
+
+        private void open() {
+            committing.incrementAndGet();
+            changes.incrementAndGet();
+        }
+
+        private void close() {
+            changes.incrementAndGet();
+            committing.decrementAndGet();
+        }
+    }
+
+    private static final class View {
+
+        private final Snapshot snapshot;
+        private final long version;
+        private final List<CourseResponse> all;
+        private final Map<String, List<CourseResponse>> byDepartment = new ConcurrentHashMap<>();
+
+        private View(Snapshot snapshot, long version, List<CourseResponse> all) {
+            this.snapshot = snapshot;
+            this.version = version;
+            this.all = all;
+        }
+    }
+}
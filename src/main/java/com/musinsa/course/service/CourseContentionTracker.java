@@ -0,0 +1,212 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.dto.HotCourseResponse;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강좌 행 락({@code findByIdWithLock})의 강좌별 경합 추적기.
+ *
+ * <p>강좌마다 현재 대기 인원, 락 대기 시간, 락 보유 시간(획득 ~ 트랜잭션 종료)을 슬라이딩 윈도우 버킷에 쌓는다.
+ * 락 대기 시간 초과 등으로 획득하지 못한 호출도 기다린 시간을 대기 시간에 넣고 실패 횟수로 따로 센다.
+ * 기록은 강좌별 원자 변수만 건드리므로 서로 다른 강좌 사이에 공유되는 락이 없다.
+ * 버킷 교체 순간에 겹친 기록 몇 건은 유실될 수 있는 근사치다.
+ */
+@Component
+public class CourseContentionTracker {
+
+    private final ConcurrentHashMap<Long, CourseContention> courses = new ConcurrentHashMap<>();
+    private final CourseCatalog courseCatalog;
+    private final long origin = System.nanoTime();
+    private final long bucketNanos;
+    private final int bucketCount;
+
+    // 기동 워밍업 스레드의 락 호출은 기록하지 않는다
+    private final ThreadLocal<Boolean> suppressed = new ThreadLocal<>();
+
+    public CourseContentionTracker(CourseCatalog courseCatalog,
+                                   @Value("${course.contention.window-seconds:60}") int windowSeconds,
+                                   @Value("${course.contention.bucket-seconds:5}") int bucketSeconds) {
+        this.courseCatalog = courseCatalog;
+        this.bucketNanos = bucketSeconds * 1_000_000_000L;
+        this.bucketCount = Math.max(1, windowSeconds / bucketSeconds);
+    }
+
+    /**
+     * 강좌 락을 잡는 호출을 감싸 대기 인원/대기 시간을 기록하고, 획득했다면 트랜잭션 종료 시 보유 시간을 기록한다.
+     * 호출이 예외로 끝나면(락 대기 시간 초과 등) 대기 시간과 실패 횟수를 기록하고 예외를 그대로 던진다.
+     */
+    public <T> Optional<T> lock(Long courseId, Supplier<Optional<T>> lockCall) {
+        if (suppressed.get() != null) {
+            return lockCall.get();
+        }
+        CourseContention contention = courses.computeIfAbsent(courseId, id -> new CourseContention(bucketCount));
+        int depth = contention.waiting.incrementAndGet();
+        long start = System.nanoTime();
+        Optional<T> locked = Optional.empty();
+        boolean failed = true;
+        try {
+            locked = lockCall.get();
+            failed = false;
+            return locked;
+        } finally {
+            long acquired = System.nanoTime();
+            contention.waiting.decrementAndGet();
+            if (failed) {
+                bucket(contention, acquired).recordFailure(depth, acquired - start);
+            } else if (locked.isPresent()) {
+                bucket(contention, acquired).recordWait(depth, acquired - start);
+                TransactionHooks.afterCompletion(() -> {
+                    long released = System.nanoTime();
+                    bucket(contention, released).recordHold(released - acquired);
+                });
+            } else if (contention.waiting.get() == 0 && contention.isIdle()) {
+                // 없는 강좌 ID로 맵이 커지지 않도록 정리
+                courses.remove(courseId, contention);
+            }
+        }
+    }
+
+    /**
+     * 윈도우 안의 락 대기 시간 합계가 큰 순서대로 강좌를 돌려준다.
+     */
+    public List<HotCourseResponse> getHottest(int limit) {
+        long currentEpoch = epochOf(System.nanoTime());
+        return courses.entrySet().stream()
+                .map(entry -> summarize(entry.getKey(), entry.getValue(), currentEpoch))
+                .filter(summary -> summary.getAcquisitions() > 0 || summary.getFailures() > 0 || summary.getWaiting() > 0)
+                .sorted(Comparator.comparingDouble(HotCourseResponse::getTotalWaitMs).reversed()
+                        .thenComparing(HotCourseResponse::getCourseId))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 현재 스레드의 락 호출을 기록하지 않는다. 같은 스레드에서 {@link #resumeOnCurrentThread()}로 다시 켠다.
+     */
+    void suppressOnCurrentThread() {
+        suppressed.set(Boolean.TRUE);
+    }
+
+    void resumeOnCurrentThread() {
+        suppressed.remove();
+    }
+
+    public int getWindowSeconds() {
+        return (int) (bucketCount * bucketNanos / 1_000_000_000L);
+    }
+
+    private HotCourseResponse summarize(Long courseId, CourseContention contention, long currentEpoch) {
+        long acquisitions = 0;
+        long failures = 0;
+        long waitNanos = 0;
+        long maxWaitNanos = 0;
+        long holds = 0;
+        long holdNanos = 0;
+        int maxDepth = 0;
+        for (Bucket bucket : contention.buckets) {
+            // 윈도우를 벗어난 버킷은 건너뛴다 (다음 기록 때 초기화됨)
+            if (currentEpoch - bucket.epoch.get() >= bucketCount) {
+                continue;
+            }
+            acquisitions += bucket.acquisitions.sum();
+            failures += bucket.failures.sum();
+            waitNanos += bucket.waitNanos.sum();
+            maxWaitNanos = Math.max(maxWaitNanos, bucket.maxWaitNanos.get());
+            holds += bucket.holds.sum();
+            holdNanos += bucket.holdNanos.sum();
+            maxDepth = Math.max(maxDepth, bucket.maxDepth.get());
+        }
+        String courseName = courseCatalog.find(courseId).map(course -> course.getName()).orElse(null);
+        return new HotCourseResponse(courseId, courseName, contention.waiting.get(), maxDepth, acquisitions, failures,
+                waitNanos / 1_000_000.0, maxWaitNanos / 1_000_000.0,
+                holds == 0 ? 0 : holdNanos / 1_000_000.0 / holds);
+    }
+
+    private Bucket bucket(CourseContention contention, long nanos) {
+        long epoch = epochOf(nanos);
+        Bucket bucket = contention.buckets[(int) (epoch % bucketCount)];
+        long current = bucket.epoch.get();
+        if (current < epoch && bucket.epoch.compareAndSet(current, epoch)) {
+            bucket.reset();
+        }
+        return bucket;
+    }
+
+    private long epochOf(long nanos) {
+        return (nanos - origin) / bucketNanos;
+    }
+
+    private static final class CourseContention {
+
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Bucket[] buckets;
+
+        private CourseContention(int bucketCount) {
+            this.buckets = new Bucket[bucketCount];
+            for (int i = 0; i < bucketCount; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        private boolean isIdle() {
+            for (Bucket bucket : buckets) {
+                if (bucket.acquisitions.sum() > 0 || bucket.failures.sum() > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicInteger maxDepth = new AtomicInteger();
+        private final LongAdder holds = new LongAdder();
+        private final LongAdder holdNanos = new LongAdder();
+
+        private void recordWait(int depth, long nanos) {
+            acquisitions.increment();
+            addWait(depth, nanos);
+        }
+
+        private void recordFailure(int depth, long nanos) {
+            failures.increment();
+            addWait(depth, nanos);
+        }
+
+        private void addWait(int depth, long nanos) {
+            waitNanos.add(nanos);
+            maxWaitNanos.accumulateAndGet(nanos, Math::max);
+            maxDepth.accumulateAndGet(depth, Math::max);
+        }
+
+        private void recordHold(long nanos) {
+            holds.increment();
+            holdNanos.add(nanos);
+        }
+
+        private void reset() {
+            acquisitions.reset();
+            failures.reset();
+            waitNanos.reset();
+            maxWaitNanos.set(0);
+            maxDepth.set(0);
+            holds.reset();
+            holdNanos.reset();
+        }
+    }
+}
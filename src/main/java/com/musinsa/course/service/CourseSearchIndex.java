@@ -0,0 +1,307 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.CourseSchedule;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.dto.CourseSearchFacets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 강좌명/강좌코드/교수명 부분 검색용 메모리 역색인.
+ *
+ * <p>각 강좌의 검색 문자열(공백 제거, 소문자, NFC)을 1글자·2글자 조각으로 나눠 조각별 강좌 위치 목록을 만든다.
+ * 질의는 2글자 조각들의 위치 목록을 짧은 것부터 교집합한 뒤, 남은 후보만 실제로 이어진 부분 문자열인지 확인한다.
+ * 한글은 음절 단위로 조각을 만들고, 강좌명과 교수명의 초성 문자열("ㅈㄹㄱㅈ")도 함께 색인한다.
+ *
+ * <p>위치는 {@link CourseCatalog} 스냅샷의 강좌 순서이며, 색인은 스냅샷과 함께 만들어지고 함께 버려진다.
+ */
+final class CourseSearchIndex {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    // 질의는 공백을 지우므로 필드 경계를 넘는 조각과 일치하지 않는다
+    private static final char FIELD_SEPARATOR = '\n';
+    private static final int[] EMPTY = new int[0];
+
+    private final String[] texts;
+    private final int[] departmentIds;
+    private final List<String> departmentNames;
+    private final int[] credits;
+    // DayOfWeek ordinal 비트
+    private final int[] days;
+    private final int[] all;
+    private final Map<String, int[]> postings;
+
+    private CourseSearchIndex(String[] texts, int[] departmentIds, List<String> departmentNames, int[] credits,
+                              int[] days, Map<String, int[]> postings) {
+        this.texts = texts;
+        this.departmentIds = departmentIds;
+        this.departmentNames = departmentNames;
+        this.credits = credits;
+        this.days = days;
+        this.postings = postings;
+        this.all = new int[texts.length];
+        Arrays.setAll(all, i -> i);
+    }
+
+    /**
+     * 학과/교수/시간표가 함께 로딩된 강좌 목록으로 색인을 만든다.
+     */
+    static CourseSearchIndex build(List<Course> courses) {
+        int size = courses.size();
+        String[] texts = new String[size];
+        int[] departmentIds = new int[size];
+        int[] credits = new int[size];
+        int[] days = new int[size];
+        Map<String, Integer> departmentIndex = new HashMap<>();
+        List<String> departmentNames = new ArrayList<>();
+        Map<String, PostingList> postings = new HashMap<>();
+
+        for (int position = 0; position < size; position++) {
+            Course course = courses.get(position);
+            String name = normalize(course.getName());
+            String professor = normalize(course.getProfessor().getName());
+            String text = name + FIELD_SEPARATOR + normalize(course.getCourseCode()) + FIELD_SEPARATOR + professor
+                    + FIELD_SEPARATOR + initials(name) + FIELD_SEPARATOR + initials(professor);
+            texts[position] = text;
+            addGrams(postings, text, position);
+
+            String department = course.getDepartment().getName();
+            departmentIds[position] = departmentIndex.computeIfAbsent(department, key -> {
+                departmentNames.add(key);
+                return departmentNames.size() - 1;
+            });
+            credits[position] = course.getCredits();
+            for (CourseSchedule schedule : course.getSchedules()) {
+                days[position] |= 1 << schedule.getDayOfWeek().ordinal();
+            }
+        }
+
+        Map<String, int[]> compacted = new HashMap<>(postings.size() * 2);
+        postings.forEach((gram, list) -> compacted.put(gram, list.toArray()));
+        return new CourseSearchIndex(texts, departmentIds, List.copyOf(departmentNames), credits, days, compacted);
+    }
+
+    /**
+     * 질의와 필터에 맞는 강좌 위치(오름차순)와 필터별 건수를 구한다. 빈 질의면 필터만 적용한다.
+     *
+     * @param limit 돌려줄 위치 수 상한 (전체 건수는 그대로 센다)
+     */
+    Hits search(String query, String department, Integer credit, DayOfWeek day, int limit) {
+        int[] matched = match(query);
+
+        int dayBit = day == null ? 0 : 1 << day.ordinal();
+        int[] departmentCounts = new int[departmentNames.size()];
+        Map<Integer, Integer> creditCounts = new TreeMap<>();
+        int[] dayCounts = new int[DayOfWeek.values().length];
+        int[] positions = new int[Math.min(limit, matched.length)];
+        int total = 0;
+
+        for (int position : matched) {
+            boolean departmentOk = department == null || department.equals(departmentNames.get(departmentIds[position]));
+            boolean creditOk = credit == null || credit == credits[position];
+            boolean dayOk = dayBit == 0 || (days[position] & dayBit) != 0;
+
+            // 각 건수는 자기 필터를 뺀 나머지 조건으로 센다
+            if (creditOk && dayOk) {
+                departmentCounts[departmentIds[position]]++;
+            }
+            if (departmentOk && dayOk) {
+                creditCounts.merge(credits[position], 1, Integer::sum);
+            }
+            if (departmentOk && creditOk) {
+                for (int bits = days[position]; bits != 0; bits &= bits - 1) {
+                    dayCounts[Integer.numberOfTrailingZeros(bits)]++;
+                }
+            }
+            if (departmentOk && creditOk && dayOk) {
+                if (total < positions.length) {
+                    positions[total] = position;
+                }
+                total++;
+            }
+        }
+
+        return new Hits(total, Arrays.copyOf(positions, Math.min(total, positions.length)),
+                new CourseSearchFacets(departmentFacet(departmentCounts), creditCounts, dayFacet(dayCounts)));
+    }
+
+    int[] match(String query) {
+        String normalized = query == null ? "" : normalize(query);
+        if (normalized.isEmpty()) {
+            return all;
+        }
+        if (normalized.length() == 1) {
+            return postings.getOrDefault(normalized, EMPTY);
+        }
+
+        int[][] lists = new int[normalized.length() - 1][];
+        for (int i = 0; i < lists.length; i++) {
+            int[] list = postings.get(normalized.substring(i, i + 2));
+            if (list == null) {
+                return EMPTY;
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+        int[] candidates = lists[0];
+        for (int i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+
+        // 조각이 모두 있어도 떨어져 있을 수 있으므로 이어진 부분 문자열인지 확인
+        int[] verified = new int[candidates.length];
+        int count = 0;
+        for (int position : candidates) {
+            if (texts[position].contains(normalized)) {
+                verified[count++] = position;
+            }
+        }
+        return Arrays.copyOf(verified, count);
+    }
+
+    static String normalize(String value) {
+        String composed = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder result = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾼 문자열. 한글이 아닌 문자는 그대로 둔다.
+     */
+    static String initials(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= HANGUL_BASE && chars[i] <= HANGUL_LAST) {
+                chars[i] = CHOSEONG[(chars[i] - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG];
+            }
+        }
+        return new String(chars);
+    }
+
+    private static void addGrams(Map<String, PostingList> postings, String text, int position) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                continue;
+            }
+            postings.computeIfAbsent(String.valueOf(c), key -> new PostingList()).add(position);
+            if (i + 1 < text.length() && text.charAt(i + 1) != FIELD_SEPARATOR) {
+                postings.computeIfAbsent(text.substring(i, i + 2), key -> new PostingList()).add(position);
+            }
+        }
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private Map<String, Integer> departmentFacet(int[] counts) {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                ids.add(id);
+            }
+        }
+        ids.sort(Comparator.<Integer>comparingInt(id -> -counts[id]).thenComparing(departmentNames::get));
+        Map<String, Integer> facet = new LinkedHashMap<>();
+        ids.forEach(id -> facet.put(departmentNames.get(id), counts[id]));
+        return facet;
+    }
+
+    private static Map<DayOfWeek, Integer> dayFacet(int[] counts) {
+        Map<DayOfWeek, Integer> facet = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (counts[day.ordinal()] > 0) {
+                facet.put(day, counts[day.ordinal()]);
+            }
+        }
+        return facet;
+    }
+
+    static final class Hits {
+
+        private final int total;
+        private final int[] positions;
+        private final CourseSearchFacets facets;
+
+        private Hits(int total, int[] positions, CourseSearchFacets facets) {
+            this.total = total;
+            this.positions = positions;
+            this.facets = facets;
+        }
+
+        int total() {
+            return total;
+        }
+
+        int[] positions() {
+            return positions;
+        }
+
+        CourseSearchFacets facets() {
+            return facets;
+        }
+    }
+
+    /**
+     * 강좌 위치를 오름차순으로 쌓는 int 목록. 같은 강좌 안에서 반복된 조각은 한 번만 넣는다.
+     */
+    private static final class PostingList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size > 0 && values[size - 1] == position) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
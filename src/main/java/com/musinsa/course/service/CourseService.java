@@ -1,35 +1,48 @@
 package com.musinsa.course.service;
 
-import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
 import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.dto.CourseSearchResponse;
 import com.musinsa.course.exception.CourseNotFoundException;
 import com.musinsa.course.repository.CourseRepository;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
 public class CourseService {
 
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final CourseRepository courseRepository;
+    private final CourseCatalog courseCatalog;
 
-    public CourseService(CourseRepository courseRepository) {
+    public CourseService(CourseRepository courseRepository, CourseCatalog courseCatalog) {
         this.courseRepository = courseRepository;
+        this.courseCatalog = courseCatalog;
     }
 
+    // 목록 조회는 스냅샷에서 응답하므로 트랜잭션(커넥션)을 새로 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<CourseResponse> getAllCourses() {
-        return courseRepository.findAllWithDetails().stream()
-                .map(CourseResponse::new)
-                .toList();
+        return courseCatalog.getAll();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<CourseResponse> getCoursesByDepartment(String departmentName) {
-        return courseRepository.findByDepartmentNameWithDetails(departmentName).stream()
-                .map(CourseResponse::new)
-                .toList();
+        return courseCatalog.getByDepartment(departmentName);
+    }
+
+    // 검색은 메모리 색인에서 처리하므로 DB를 조회하지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CourseSearchResponse searchCourses(String query, String department, Integer credits, DayOfWeek day,
+                                              int size) {
+        return courseCatalog.search(query, department, credits, day, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE));
     }
 
     public Page<CourseResponse> getCoursesPaged(Pageable pageable) {
@@ -37,9 +50,17 @@ public class CourseService {
                 .map(CourseResponse::new);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public CourseResponse getCourseById(Long id) {
-        Course course = courseRepository.findById(id)
+        return courseCatalog.find(id)
+                .or(() -> {
+                    // 스냅샷 이후 추가된 강좌면 스냅샷을 다시 만든다
+                    if (!courseRepository.existsById(id)) {
+                        return Optional.empty();
+                    }
+                    courseCatalog.invalidate();
+                    return courseCatalog.find(id);
+                })
                 .orElseThrow(() -> new CourseNotFoundException(id));
-        return new CourseResponse(course);
     }
 }
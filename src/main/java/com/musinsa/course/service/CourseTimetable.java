@@ -0,0 +1,77 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.CourseSchedule;
+import com.musinsa.course.domain.TimetableMask;
+import com.musinsa.course.repository.ScheduleSlotView;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 강좌 하나의 주간 시간표를 비트마스크로 컴파일한 결과. 한 번 만들면 변하지 않는다.
+ */
+public final class CourseTimetable {
+
+    private final Long courseId;
+    private final String courseName;
+    private final TimetableMask mask;
+    private final List<Slot> slots;
+
+    private CourseTimetable(Long courseId, String courseName, TimetableMask mask, List<Slot> slots) {
+        this.courseId = courseId;
+        this.courseName = courseName;
+        this.mask = mask;
+        this.slots = slots;
+    }
+
+    static CourseTimetable compile(Long courseId, List<? extends ScheduleSlotView> views) {
+        String courseName = null;
+        List<Slot> slots = new ArrayList<>(views.size());
+        List<TimetableMask> masks = new ArrayList<>(views.size());
+        for (ScheduleSlotView view : views) {
+            courseName = view.getCourseName();
+            if (view.getDayOfWeek() == null) {
+                continue;
+            }
+            TimetableMask slotMask = TimetableMask.of(view.getDayOfWeek(), view.getStartTime(), view.getEndTime());
+            String display = CourseSchedule.toDisplayString(view.getDayOfWeek(), view.getStartTime(), view.getEndTime());
+            slots.add(new Slot(slotMask, display));
+            masks.add(slotMask);
+        }
+        return new CourseTimetable(courseId, courseName, TimetableMask.union(masks), List.copyOf(slots));
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public TimetableMask getMask() {
+        return mask;
+    }
+
+    /**
+     * 다른 마스크와 겹치는 첫 번째 수업 시간을 표시 문자열로 반환한다. 겹치지 않으면 null.
+     */
+    public String findOverlappingSlot(TimetableMask other) {
+        for (Slot slot : slots) {
+            if (slot.mask.intersects(other)) {
+                return slot.display;
+            }
+        }
+        return null;
+    }
+
+    private static final class Slot {
+
+        private final TimetableMask mask;
+        private final String display;
+
+        private Slot(TimetableMask mask, String display) {
+            this.mask = mask;
+            this.display = display;
+        }
+    }
+}
@@ -15,14 +15,28 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 서버 시작 시 초기 데이터를 생성한다.
+ *
+ * <p>학과/교수/강좌/시간표는 한 트랜잭션으로 저장하고, 학생은 파티션으로 나눠 파티션마다 별도 트랜잭션으로
+ * 여러 스레드에서 동시에 생성/저장한다. 엔티티 ID는 시퀀스(allocationSize 50)라 INSERT가 JDBC 배치로 묶인다.
+ * 파티션마다 시드를 따로 두어 스레드 실행 순서와 관계없이 같은 데이터가 만들어진다.
+ * 같은 파라미터로 만든 {@link SeedSnapshot}이 있으면 생성하지 않고 스냅샷을 복원한다.
+ */
 @Component
 public class DataInitializer implements ApplicationRunner {
 
@@ -81,45 +95,114 @@ public class DataInitializer implements ApplicationRunner {
             LocalTime.of(15, 0), LocalTime.of(16, 30)
     };
 
-    private static final DayOfWeek[][] DAY_PAIRS = {
-            {DayOfWeek.MON, DayOfWeek.WED},
-            {DayOfWeek.TUE, DayOfWeek.THU},
-            {DayOfWeek.WED, DayOfWeek.FRI},
-            {DayOfWeek.MON, DayOfWeek.THU},
-            {DayOfWeek.TUE, DayOfWeek.FRI}
-    };
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private static final long SEED = 42;
+
+    // 생성 로직(이름 조합, 분포 등)을 바꾸면 올려서 이전 스냅샷을 쓰지 않게 한다
+    private static final int GENERATOR_VERSION = 1;
 
     private final AtomicBoolean ready = new AtomicBoolean(false);
+    private volatile boolean restored;
 
     private final DepartmentRepository departmentRepository;
     private final ProfessorRepository professorRepository;
     private final CourseRepository courseRepository;
     private final CourseScheduleRepository courseScheduleRepository;
     private final StudentRepository studentRepository;
+    private final CourseCatalog courseCatalog;
+    private final SeedSnapshot seedSnapshot;
+    private final WarmUp warmUp;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int studentCount;
+    private final int courseCount;
+    private final int schedulesPerCourse;
+    private final int partitionSize;
+    private final int parallelism;
 
     public DataInitializer(DepartmentRepository departmentRepository,
                            ProfessorRepository professorRepository,
                            CourseRepository courseRepository,
                            CourseScheduleRepository courseScheduleRepository,
-                           StudentRepository studentRepository) {
+                           StudentRepository studentRepository,
+                           CourseCatalog courseCatalog,
+                           SeedSnapshot seedSnapshot,
+                           WarmUp warmUp,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${course.data.students:10000}") int studentCount,
+                           @Value("${course.data.courses:500}") int courseCount,
+                           @Value("${course.data.schedules-per-course:2}") int schedulesPerCourse,
+                           @Value("${course.data.partition-size:5000}") int partitionSize,
+                           @Value("${course.data.parallelism:4}") int parallelism) {
+        if (schedulesPerCourse < 1 || schedulesPerCourse > DAYS.length) {
+            throw new IllegalArgumentException(
+                    "course.data.schedules-per-course는 1~" + DAYS.length + " 사이여야 합니다: " + schedulesPerCourse);
+        }
         this.departmentRepository = departmentRepository;
         this.professorRepository = professorRepository;
         this.courseRepository = courseRepository;
         this.courseScheduleRepository = courseScheduleRepository;
         this.studentRepository = studentRepository;
+        this.courseCatalog = courseCatalog;
+        this.seedSnapshot = seedSnapshot;
+        this.warmUp = warmUp;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.studentCount = studentCount;
+        this.courseCount = courseCount;
+        this.schedulesPerCourse = schedulesPerCourse;
+        this.partitionSize = Math.max(1, partitionSize);
+        this.parallelism = Math.max(1, parallelism);
     }
 
     public boolean isReady() {
         return ready.get();
     }
 
+    /**
+     * 이번 기동에서 초기 데이터를 생성하지 않고 스냅샷에서 복원했는지 여부.
+     */
+    boolean isRestored() {
+        return restored;
+    }
+
     @Override
-    @Transactional
     public void run(ApplicationArguments args) {
         long startTime = System.currentTimeMillis();
-        log.info("초기 데이터 생성 시작...");
+        // 파티션 크기는 파티션별 시드를 바꾸므로 데이터에 영향을 준다 (스레드 수는 영향 없음)
+        String parameters = String.format("generator=%d,students=%d,courses=%d,schedulesPerCourse=%d,partitionSize=%d",
+                GENERATOR_VERSION, studentCount, courseCount, schedulesPerCourse, partitionSize);
+
+        restored = seedSnapshot.restore(parameters);
+        if (restored) {
+            log.info("초기 데이터 스냅샷 복원 완료! (소요시간: {}ms)", System.currentTimeMillis() - startTime);
+        } else {
+            log.info("초기 데이터 생성 시작... (학생 {}명, 강좌 {}개, 강좌당 수업 {}회, 파티션 {}명 x 스레드 {}개)",
+                    studentCount, courseCount, schedulesPerCourse, partitionSize, parallelism);
+
+            List<Department> departments = transactionTemplate.execute(status -> generateCatalog());
+            generateStudents(departments);
+
+            long elapsed = System.currentTimeMillis() - startTime;
+            log.info("초기 데이터 생성 완료! (소요시간: {}ms)", elapsed);
+
+            seedSnapshot.save(parameters);
+        }
 
-        Random random = new Random(42);
+        // 생성 도중 만들어진 강좌 목록 스냅샷이 있으면 폐기 (모든 트랜잭션이 커밋된 뒤)
+        courseCatalog.invalidate();
+
+        // 첫 요청이 콜드 상태 비용을 떠안지 않도록 워밍업을 마친 뒤에 준비 완료로 전환
+        warmUp.run();
+
+        ready.set(true);
+    }
+
+    /**
+     * 학과, 교수, 강좌, 시간표를 저장하고 학생 생성에 쓸 학과 목록을 돌려준다.
+     */
+    private List<Department> generateCatalog() {
+        Random random = new Random(SEED);
 
         List<Department> departments = generateDepartments();
         departmentRepository.saveAll(departments);
@@ -136,14 +219,36 @@ public class DataInitializer implements ApplicationRunner {
         courseScheduleRepository.saveAll(schedules);
         log.info("강좌 {}개, 시간표 {}개 생성 완료", courses.size(), schedules.size());
 
-        List<Student> students = generateStudents(departments, random);
-        studentRepository.saveAll(students);
-        log.info("학생 {}명 생성 완료", students.size());
-
-        long elapsed = System.currentTimeMillis() - startTime;
-        log.info("초기 데이터 생성 완료! (소요시간: {}ms)", elapsed);
+        return departments;
+    }
 
-        ready.set(true);
+    /**
+     * 학생을 파티션 단위로 병렬 생성/저장한다. 파티션 하나가 트랜잭션 하나라 영속성 컨텍스트는 파티션 크기까지만 커진다.
+     * 한 파티션이라도 실패하면 기동을 실패시킨다.
+     */
+    private void generateStudents(List<Department> departments) {
+        long start = System.currentTimeMillis();
+        int partitions = (studentCount + partitionSize - 1) / partitionSize;
+        int numberWidth = Math.max(5, String.valueOf(studentCount).length());
+
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, partitions)),
+                runnable -> new Thread(runnable, "data-init-" + sequence.incrementAndGet()));
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(partitions);
+            for (int partition = 0; partition < partitions; partition++) {
+                int from = partition * partitionSize;
+                int to = Math.min(studentCount, from + partitionSize);
+                Random random = new Random(SEED + 1 + partition);
+                futures.add(CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status ->
+                        studentRepository.saveAll(generateStudents(departments, from, to, numberWidth, random))),
+                        workers));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            workers.shutdown();
+        }
+        log.info("학생 {}명 생성 완료 (파티션 {}개, {}ms)", studentCount, partitions, System.currentTimeMillis() - start);
     }
 
     private List<Department> generateDepartments() {
@@ -170,61 +275,65 @@ public class DataInitializer implements ApplicationRunner {
 
     private List<Course> generateCourses(List<Department> departments,
                                           List<Professor> professors, Random random) {
-        List<Course> courses = new ArrayList<>(500);
+        List<Course> courses = new ArrayList<>(courseCount);
         int courseIndex = 0;
-        int profIndex = 0;
-
-        for (int deptIdx = 0; deptIdx < departments.size(); deptIdx++) {
-            Department dept = departments.get(deptIdx);
-            String[] courseNames = COURSE_NAMES_BY_DEPT[deptIdx];
-
-            // 각 학과에서 기본 강좌 + 변형 강좌 생성
-            int profStartIdx = profIndex;
-            int profCount = (deptIdx < 5) ? 10 : 8;
-
-            for (String baseName : courseNames) {
-                // 기본 강좌
-                int credits = 2 + random.nextInt(2); // 2 or 3
-                int capacity = 20 + random.nextInt(31); // 20~50
-                Professor prof = professors.get(profStartIdx + (courseIndex % profCount));
-                String courseCode = String.format("%s%03d", dept.getName().substring(0, 2), courseIndex + 1);
-
-                courses.add(new Course(baseName, courseCode, credits, capacity, dept, prof));
-                courseIndex++;
-
-                // 변형 강좌 (심화/응용/실습 등)
-                for (int s = 0; s < 4 && courses.size() < 500; s++) {
-                    String suffix = COURSE_SUFFIXES[random.nextInt(COURSE_SUFFIXES.length)];
-                    String variantName = baseName + " " + suffix;
-                    credits = 1 + random.nextInt(3); // 1~3
-                    capacity = 20 + random.nextInt(31);
-                    prof = professors.get(profStartIdx + (courseIndex % profCount));
-                    courseCode = String.format("%s%03d", dept.getName().substring(0, 2), courseIndex + 1);
-
-                    courses.add(new Course(variantName, courseCode, credits, capacity, dept, prof));
+
+        // 학과별 과목명을 다 쓰면 처음 학과부터 다시 돌며 같은 이름의 분반을 만든다 (강좌 코드는 계속 증가)
+        while (courses.size() < courseCount) {
+            int profIndex = 0;
+            for (int deptIdx = 0; deptIdx < departments.size(); deptIdx++) {
+                Department dept = departments.get(deptIdx);
+                String[] courseNames = COURSE_NAMES_BY_DEPT[deptIdx];
+
+                // 각 학과에서 기본 강좌 + 변형 강좌 생성
+                int profStartIdx = profIndex;
+                int profCount = (deptIdx < 5) ? 10 : 8;
+
+                for (String baseName : courseNames) {
+                    // 기본 강좌
+                    int credits = 2 + random.nextInt(2); // 2 or 3
+                    int capacity = 20 + random.nextInt(31); // 20~50
+                    Professor prof = professors.get(profStartIdx + (courseIndex % profCount));
+                    String courseCode = String.format("%s%03d", dept.getName().substring(0, 2), courseIndex + 1);
+
+                    courses.add(new Course(baseName, courseCode, credits, capacity, dept, prof));
                     courseIndex++;
 
-                    if (courses.size() >= 500) break;
+                    // 변형 강좌 (심화/응용/실습 등)
+                    for (int s = 0; s < 4 && courses.size() < courseCount; s++) {
+                        String suffix = COURSE_SUFFIXES[random.nextInt(COURSE_SUFFIXES.length)];
+                        String variantName = baseName + " " + suffix;
+                        credits = 1 + random.nextInt(3); // 1~3
+                        capacity = 20 + random.nextInt(31);
+                        prof = professors.get(profStartIdx + (courseIndex % profCount));
+                        courseCode = String.format("%s%03d", dept.getName().substring(0, 2), courseIndex + 1);
+
+                        courses.add(new Course(variantName, courseCode, credits, capacity, dept, prof));
+                        courseIndex++;
+
+                        if (courses.size() >= courseCount) break;
+                    }
+                    if (courses.size() >= courseCount) break;
                 }
-                if (courses.size() >= 500) break;
+                profIndex += profCount;
+                if (courses.size() >= courseCount) break;
             }
-            profIndex += profCount;
-            if (courses.size() >= 500) break;
         }
 
         return courses;
     }
 
     private List<CourseSchedule> generateSchedules(List<Course> courses, Random random) {
-        List<CourseSchedule> schedules = new ArrayList<>(courses.size() * 2);
+        List<CourseSchedule> schedules = new ArrayList<>(courses.size() * schedulesPerCourse);
 
         for (Course course : courses) {
-            DayOfWeek[] dayPair = DAY_PAIRS[random.nextInt(DAY_PAIRS.length)];
+            int firstDay = random.nextInt(DAYS.length);
             LocalTime startTime = TIME_SLOTS[random.nextInt(TIME_SLOTS.length)];
             LocalTime endTime = startTime.plusMinutes(90);
 
-            // 모든 강좌는 주 2회 수업
-            for (DayOfWeek day : dayPair) {
+            // 하루씩 걸러 같은 시간에 수업 (주 2회면 월/수, 화/목, 수/금, 목/월, 금/화)
+            for (int i = 0; i < schedulesPerCourse; i++) {
+                DayOfWeek day = DAYS[(firstDay + i * 2) % DAYS.length];
                 schedules.add(new CourseSchedule(course, day, startTime, endTime));
             }
         }
@@ -232,13 +341,15 @@ public class DataInitializer implements ApplicationRunner {
         return schedules;
     }
 
-    private List<Student> generateStudents(List<Department> departments, Random random) {
-        List<Student> students = new ArrayList<>(10000);
+    private List<Student> generateStudents(List<Department> departments, int from, int to, int numberWidth,
+                                           Random random) {
+        List<Student> students = new ArrayList<>(to - from);
+        String numberFormat = "2024%0" + numberWidth + "d";
 
-        for (int i = 0; i < 10000; i++) {
+        for (int i = from; i < to; i++) {
             String name = LAST_NAMES[random.nextInt(LAST_NAMES.length)]
                     + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
-            String studentNumber = String.format("2024%05d", i + 1);
+            String studentNumber = String.format(numberFormat, i + 1);
             int grade = 1 + random.nextInt(4); // 1~4학년
             Department dept = departments.get(random.nextInt(departments.size()));
 
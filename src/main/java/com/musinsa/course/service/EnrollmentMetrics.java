@@ -0,0 +1,133 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.exception.CapacityExceededException;
+import com.musinsa.course.exception.CreditLimitExceededException;
+import com.musinsa.course.exception.DuplicateEnrollmentException;
+import com.musinsa.course.exception.TimeConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수강신청/취소/교체 단계별 소요 시간과 실패 건수.
+ *
+ * <p>실패는 수강신청 규칙에 걸린 거절(정원, 중복, 학점, 시간 충돌)만 {@code enrollment.rejections}로 세고,
+ * 없는 학생/강좌 같은 요청 오류와 락 대기 초과 같은 인프라 오류는 {@code enrollment.errors}로 따로 센다.
+ *
+ * <p>타이머와 카운터는 생성 시점에 모두 등록해 두고 기록 시에는 배열 조회 + 히스토그램 버킷 증가만 한다.
+ * {@code /actuator/metrics/enrollment.stage?tag=stage:course_lock}처럼 조회한다.
+ */
+@Component
+public class EnrollmentMetrics {
+
+    public enum Stage {
+        // 수강신청
+        SEAT_RESERVE("enroll", "seat_reserve"),
+        COURSE_LOCK("enroll", "course_lock"),
+        STUDENT_LOCK("enroll", "student_lock"),
+        TIMETABLE_LOAD("enroll", "timetable_load"),
+        DUPLICATE_CHECK("enroll", "duplicate_check"),
+        CREDIT_CHECK("enroll", "credit_check"),
+        CONFLICT_CHECK("enroll", "conflict_check"),
+        INSERT("enroll", "insert"),
+        // 수강취소
+        CANCEL_LOAD("cancel", "enrollment_load"),
+        CANCEL_COURSE_LOCK("cancel", "course_lock"),
+        CANCEL_STUDENT_LOCK("cancel", "student_lock"),
+        CANCEL_DELETE("cancel", "delete"),
+        // 강좌 교체 (취소 + 신청)
+        SWAP_LOAD("swap", "enrollment_load"),
+        SWAP_SEAT_RESERVE("swap", "seat_reserve"),
+        SWAP_COURSE_LOCK("swap", "course_lock"),
+        SWAP_STUDENT_LOCK("swap", "student_lock"),
+        SWAP_CHECK("swap", "check"),
+        SWAP_APPLY("swap", "apply");
+
+        private final String operation;
+        private final String tag;
+
+        Stage(String operation, String tag) {
+            this.operation = operation;
+            this.tag = tag;
+        }
+    }
+
+    private static final String STAGE_METRIC = "enrollment.stage";
+    private static final String REJECTION_METRIC = "enrollment.rejections";
+    private static final String ERROR_METRIC = "enrollment.errors";
+    private static final Set<Class<?>> REJECTION_TYPES = Set.of(CapacityExceededException.class,
+            CreditLimitExceededException.class, TimeConflictException.class, DuplicateEnrollmentException.class);
+
+    private final MeterRegistry registry;
+    private final Timer[] timers = new Timer[Stage.values().length];
+    private final ConcurrentHashMap<Class<?>, Counter> rejections = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+    // 기동 워밍업 스레드에서만 꺼서 콜드 상태의 느린 기록이 지표에 섞이지 않게 한다 (같은 시각의 실제 요청은 기록)
+    private final ThreadLocal<Boolean> suppressed = new ThreadLocal<>();
+
+    public EnrollmentMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            timers[stage.ordinal()] = Timer.builder(STAGE_METRIC)
+                    .description("수강신청/취소/교체 단계별 소요 시간")
+                    .tag("operation", stage.operation)
+                    .tag("stage", stage.tag)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+        for (Class<?> type : REJECTION_TYPES) {
+            rejectionCounter(type);
+        }
+    }
+
+    /**
+     * startNanos부터 지금까지를 stage 시간으로 기록하고, 다음 단계의 시작 시각(지금)을 돌려준다.
+     */
+    public long lap(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        if (suppressed.get() == null) {
+            timers[stage.ordinal()].record(now - startNanos, TimeUnit.NANOSECONDS);
+        }
+        return now;
+    }
+
+    /**
+     * 수강신청/교체가 실패한 예외를 종류별로 센다. 규칙 거절이면 {@code enrollment.rejections}, 그 밖에는 {@code enrollment.errors}.
+     */
+    public void failed(RuntimeException e) {
+        if (suppressed.get() != null) {
+            return;
+        }
+        if (REJECTION_TYPES.contains(e.getClass())) {
+            rejectionCounter(e.getClass()).increment();
+        } else {
+            errors.computeIfAbsent(e.getClass(), key -> Counter.builder(ERROR_METRIC)
+                    .description("수강신청 처리 오류 건수 (규칙 거절 제외)")
+                    .tag("type", key.getSimpleName())
+                    .register(registry)).increment();
+        }
+    }
+
+    /**
+     * 현재 스레드의 기록을 끈다. 같은 스레드에서 {@link #resumeOnCurrentThread()}로 다시 켠다.
+     */
+    void suppressOnCurrentThread() {
+        suppressed.set(Boolean.TRUE);
+    }
+
+    void resumeOnCurrentThread() {
+        suppressed.remove();
+    }
+
+    private Counter rejectionCounter(Class<?> type) {
+        return rejections.computeIfAbsent(type, key -> Counter.builder(REJECTION_METRIC)
+                .description("수강신청 거절 건수")
+                .tag("reason", key.getSimpleName())
+                .register(registry));
+    }
+}
@@ -0,0 +1,377 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.Enrollment;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.domain.WaitlistStatus;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.exception.CapacityExceededException;
+import com.musinsa.course.exception.CourseNotFoundException;
+import com.musinsa.course.exception.CreditLimitExceededException;
+import com.musinsa.course.exception.DuplicateEnrollmentException;
+import com.musinsa.course.exception.EnrollmentTimeoutException;
+import com.musinsa.course.exception.StudentNotFoundException;
+import com.musinsa.course.exception.TimeConflictException;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.EnrollmentRepository;
+import com.musinsa.course.repository.StudentEnrolledSlotView;
+import com.musinsa.course.repository.StudentRepository;
+import com.musinsa.course.repository.WaitlistRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 강좌별 대기열에 수강신청을 모았다가 한 트랜잭션으로 일괄 처리하는 그룹 커밋 파이프라인.
+ *
+ * <p>강좌마다 하나의 작성자가 대기열을 비우며, 배치 단위로 강좌 락 1회, enrolled UPDATE 1회,
+ * Enrollment 일괄 INSERT로 반영한다. 배치 안에서는 도착 순서(선착순)대로
+ * {@link EnrollmentService#enroll}과 같은 규칙을 같은 순서로 검증한다.
+ *
+ * <p>락 순서가 강좌 → 학생이므로 학생 → 강좌 행 순서인 조건부 UPDATE 전략과 함께 켜면 교착될 수 있어 기동 시 거부한다.
+ */
+@Component
+public class EnrollmentPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentPipeline.class);
+
+    private final ConcurrentHashMap<Long, CourseLane> lanes = new ConcurrentHashMap<>();
+
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final SeatCounter seatCounter;
+    private final TimetableCache timetableCache;
+    private final CourseCatalog courseCatalog;
+    private final EnrollmentMetrics metrics;
+    private final CourseContentionTracker contentionTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService writers;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long responseTimeoutMillis;
+
+    public EnrollmentPipeline(CourseRepository courseRepository,
+                              StudentRepository studentRepository,
+                              EnrollmentRepository enrollmentRepository,
+                              WaitlistRepository waitlistRepository,
+                              SeatCounter seatCounter,
+                              TimetableCache timetableCache,
+                              CourseCatalog courseCatalog,
+                              EnrollmentMetrics metrics,
+                              CourseContentionTracker contentionTracker,
+                              SeatAcquisitionStrategy seatAcquisition,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${course.enrollment.pipeline.enabled:false}") boolean enabled,
+                              @Value("${course.enrollment.pipeline.batch-size:64}") int batchSize,
+                              @Value("${course.enrollment.pipeline.writer-threads:8}") int writerThreads,
+                              @Value("${course.enrollment.pipeline.response-timeout-ms:10000}") long responseTimeoutMillis) {
+        if (enabled && seatAcquisition instanceof ConditionalUpdateSeatAcquisition) {
+            throw new IllegalStateException("course.enrollment.pipeline은 seat-acquisition=pessimistic에서만 "
+                    + "사용할 수 있습니다 (조건부 UPDATE와 락 순서가 달라 교착 가능)");
+        }
+        this.courseRepository = courseRepository;
+        this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.waitlistRepository = waitlistRepository;
+        this.seatCounter = seatCounter;
+        this.timetableCache = timetableCache;
+        this.courseCatalog = courseCatalog;
+        this.metrics = metrics;
+        this.contentionTracker = contentionTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.responseTimeoutMillis = responseTimeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "enrollment-writer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 수강신청 API가 파이프라인을 거치도록 설정되었는지 여부.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기열을 거쳐 수강신청하고 결과를 기다린다. 실패하면 {@link EnrollmentService#enroll}과 같은 예외를 던진다.
+     * 작성자가 멈추거나 대기열이 밀려 {@code response-timeout-ms} 안에 결과가 없으면 요청을 대기열에서 빼고
+     * {@link EnrollmentTimeoutException}을 던지므로, 시간 초과로 끝난 요청은 나중에 반영되지 않는다.
+     * 작성자가 이미 배치 트랜잭션에 넣은 요청은 뺄 수 없으므로 커밋/롤백 결과를 끝까지 기다린다.
+     */
+    public EnrollmentResponse enroll(Long studentId, Long courseId) {
+        PendingEnrollment pending = enqueue(studentId, courseId);
+        try {
+            return pending.result.get(responseTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw failureOf(e.getCause());
+        } catch (TimeoutException e) {
+            return cancelOrAwait(pending, studentId, courseId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cancelOrAwait(pending, studentId, courseId);
+        }
+    }
+
+    /**
+     * 대기열에 넣고 결과를 비동기로 돌려준다. 호출자가 기다리기를 그만두어도 요청은 대기열에 남아 처리된다.
+     */
+    public CompletableFuture<EnrollmentResponse> submit(Long studentId, Long courseId) {
+        return enqueue(studentId, courseId).result;
+    }
+
+    private PendingEnrollment enqueue(Long studentId, Long courseId) {
+        PendingEnrollment pending = new PendingEnrollment(studentId);
+        try {
+            // 마감된 강좌는 대기열에 넣지 않고 바로 거절
+            seatCounter.checkAvailable(courseId);
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            pending.claim();
+            pending.result.completeExceptionally(e);
+            return pending;
+        }
+
+        CourseLane lane = lanes.computeIfAbsent(courseId, CourseLane::new);
+        lane.queue.add(pending);
+        schedule(lane);
+        return pending;
+    }
+
+    private EnrollmentResponse cancelOrAwait(PendingEnrollment pending, Long studentId, Long courseId) {
+        if (pending.claim()) {
+            // 작성자가 꺼내기 전이므로 이후 배치에서 건너뛴다
+            log.warn("수강신청 결과 대기 시간 초과, 요청 취소 - 학생 ID: {}, 강좌 ID: {}", studentId, courseId);
+            EnrollmentTimeoutException timeout = new EnrollmentTimeoutException(responseTimeoutMillis);
+            pending.result.completeExceptionally(timeout);
+            throw timeout;
+        }
+        // 배치 트랜잭션은 DB 락 대기 시간 안에 커밋이나 롤백으로 끝난다
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            throw failureOf(e.getCause());
+        }
+    }
+
+    private static RuntimeException failureOf(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdown();
+    }
+
+    private void schedule(CourseLane lane) {
+        if (lane.draining.compareAndSet(false, true)) {
+            writers.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(CourseLane lane) {
+        try {
+            List<PendingEnrollment> batch = lane.poll(batchSize);
+            while (!batch.isEmpty()) {
+                process(lane.courseId, batch);
+                batch = lane.poll(batchSize);
+            }
+        } finally {
+            lane.draining.set(false);
+        }
+        // 마지막 poll 이후 플래그를 내리기 전에 들어온 요청을 놓치지 않도록 다시 확인
+        if (!lane.queue.isEmpty()) {
+            schedule(lane);
+        }
+    }
+
+    private void process(Long courseId, List<PendingEnrollment> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyBatch(courseId, batch));
+        } catch (RuntimeException e) {
+            log.error("수강신청 일괄 처리 실패 - 강좌 ID: {}, 요청 {}건", courseId, batch.size(), e);
+            batch.forEach(pending -> {
+                metrics.failed(e);
+                pending.result.completeExceptionally(e);
+            });
+            return;
+        }
+        // 커밋이 끝난 뒤에만 호출자에게 결과를 알린다
+        batch.forEach(PendingEnrollment::complete);
+    }
+
+    private void applyBatch(Long courseId, List<PendingEnrollment> batch) {
+        Optional<Course> found = contentionTracker.lock(courseId, () -> courseRepository.findByIdWithLock(courseId));
+        if (found.isEmpty()) {
+            batch.forEach(pending -> pending.failure = new CourseNotFoundException(courseId));
+            return;
+        }
+        Course course = found.get();
+
+        // 대기자가 있으면 빈자리는 WaitlistPromoter 몫 (강좌 락 안에서 확인하므로 대기 등록과 엇갈리지 않는다)
+        if (waitlistRepository.existsByCourseIdAndStatus(courseId, WaitlistStatus.WAITING)) {
+            batch.forEach(pending -> {
+                pending.failure = new CapacityExceededException(course.getName(), course.getCapacity());
+                metrics.failed(pending.failure);
+            });
+            return;
+        }
+
+        // 학생 락은 ID 순서로 잡아 다른 강좌의 일괄 처리와 교착되지 않게 한다
+        Map<Long, Student> students = new HashMap<>();
+        batch.stream()
+                .map(pending -> pending.studentId)
+                .distinct()
+                .sorted()
+                .forEach(id -> studentRepository.findByIdWithLock(id).ifPresent(s -> students.put(id, s)));
+
+        Map<Long, StudentTimetable> timetables = loadTimetables(students.keySet());
+        CourseTimetable newTimetable = timetableCache.get(courseId);
+
+        List<Enrollment> accepted = new ArrayList<>();
+        Set<Long> acceptedStudents = new HashSet<>();
+        for (PendingEnrollment pending : batch) {
+            try {
+                EnrollmentRules.checkCapacity(course);
+
+                Student student = students.get(pending.studentId);
+                if (student == null) {
+                    throw new StudentNotFoundException(pending.studentId);
+                }
+
+                // 같은 배치에서 이미 이 강좌를 받은 학생이면 중복
+                if (acceptedStudents.contains(pending.studentId)) {
+                    throw new DuplicateEnrollmentException(course.getName());
+                }
+                StudentTimetable timetable = timetables.get(pending.studentId);
+                EnrollmentRules.checkDuplicate(timetable, course);
+                EnrollmentRules.checkCreditLimit(student.getEnrolledCredits(), course);
+                EnrollmentRules.checkTimeConflict(timetable, newTimetable);
+
+                course.incrementEnrolled();
+                student.addCredits(course.getCredits());
+                pending.enrollment = new Enrollment(student, course);
+                accepted.add(pending.enrollment);
+                acceptedStudents.add(pending.studentId);
+            } catch (CapacityExceededException | StudentNotFoundException | DuplicateEnrollmentException
+                     | CreditLimitExceededException | TimeConflictException e) {
+                pending.failure = e;
+                metrics.failed(e);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // enrolled 변경은 커밋 시 UPDATE 1회, 수강신청 행은 일괄 INSERT로 반영
+        enrollmentRepository.saveAll(accepted);
+        for (PendingEnrollment pending : batch) {
+            if (pending.enrollment != null) {
+                pending.response = new EnrollmentResponse(pending.enrollment);
+            }
+        }
+        seatCounter.invalidateAfterCommit(courseId);
+        courseCatalog.recordEnrolledChange(courseId, accepted.size());
+
+        log.info("수강신청 일괄 처리 - 강좌: {} ({}), 요청 {}건, 성공 {}건",
+                course.getName(), course.getCourseCode(), batch.size(), accepted.size());
+    }
+
+    private Map<Long, StudentTimetable> loadTimetables(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<StudentEnrolledSlotView>> rowsByStudent = enrollmentRepository
+                .findEnrolledSlotsByStudentIdIn(studentIds).stream()
+                .collect(Collectors.groupingBy(StudentEnrolledSlotView::getStudentId));
+
+        Map<Long, StudentTimetable> timetables = new HashMap<>();
+        for (Long studentId : studentIds) {
+            timetables.put(studentId,
+                    StudentTimetable.of(rowsByStudent.getOrDefault(studentId, List.of()), timetableCache));
+        }
+        return timetables;
+    }
+
+    private static final class CourseLane {
+
+        private final Long courseId;
+        private final ConcurrentLinkedQueue<PendingEnrollment> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private CourseLane(Long courseId) {
+            this.courseId = courseId;
+        }
+
+        private List<PendingEnrollment> poll(int max) {
+            List<PendingEnrollment> batch = new ArrayList<>(Math.min(max, 16));
+            PendingEnrollment pending;
+            while (batch.size() < max && (pending = queue.poll()) != null) {
+                // 기다리다 시간 초과로 취소된 요청은 건너뛴다
+                if (pending.claim()) {
+                    batch.add(pending);
+                }
+            }
+            return batch;
+        }
+    }
+
+    private static final class PendingEnrollment {
+
+        private final Long studentId;
+        private final CompletableFuture<EnrollmentResponse> result = new CompletableFuture<>();
+        // 작성자가 배치에 넣거나 호출자가 시간 초과로 취소하면 true (먼저 잡은 쪽만 진행)
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private Enrollment enrollment;
+        private EnrollmentResponse response;
+        private RuntimeException failure;
+
+        private PendingEnrollment(Long studentId) {
+            this.studentId = studentId;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        private void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(response);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.exception.CapacityExceededException;
+import com.musinsa.course.exception.CreditLimitExceededException;
+import com.musinsa.course.exception.DuplicateEnrollmentException;
+import com.musinsa.course.exception.TimeConflictException;
+
+/**
+ * 수강신청 비즈니스 규칙. 강좌/학생 락을 잡은 상태에서 메모리 값만으로 판단한다.
+ */
+final class EnrollmentRules {
+
+    static final int MAX_CREDITS = 18;
+
+    private EnrollmentRules() {
+    }
+
+    static void checkCapacity(Course course) {
+        if (course.isFull()) {
+            throw new CapacityExceededException(course.getName(), course.getCapacity());
+        }
+    }
+
+    static void checkDuplicate(StudentTimetable timetable, Course course) {
+        if (timetable.contains(course.getId())) {
+            throw new DuplicateEnrollmentException(course.getName());
+        }
+    }
+
+    static void checkCreditLimit(int currentCredits, Course course) {
+        if (currentCredits + course.getCredits() > MAX_CREDITS) {
+            throw new CreditLimitExceededException(currentCredits, course.getCredits());
+        }
+    }
+
+    static void checkTimeConflict(StudentTimetable timetable, CourseTimetable newTimetable) {
+        // 학생 시간표(수강 강좌 마스크의 OR)와 AND 한 번으로 충돌 여부를 판단
+        CourseTimetable conflict = timetable.findConflict(newTimetable);
+        if (conflict != null) {
+            throw new TimeConflictException(
+                    conflict.getCourseName(),
+                    conflict.findOverlappingSlot(newTimetable.getMask()));
+        }
+    }
+}
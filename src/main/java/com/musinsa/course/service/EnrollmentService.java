@@ -1,10 +1,16 @@
 package com.musinsa.course.service;
 
 import com.musinsa.course.domain.Course;
-import com.musinsa.course.domain.CourseSchedule;
 import com.musinsa.course.domain.Enrollment;
 import com.musinsa.course.domain.Student;
+import com.musinsa.course.domain.WaitlistStatus;
+import com.musinsa.course.dto.AvailableCoursesResponse;
+import com.musinsa.course.dto.BulkEnrollmentMode;
+import com.musinsa.course.dto.BulkEnrollmentResponse;
+import com.musinsa.course.dto.BulkEnrollmentResult;
+import com.musinsa.course.dto.CourseResponse;
 import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.exception.BusinessException;
 import com.musinsa.course.exception.CapacityExceededException;
 import com.musinsa.course.exception.CreditLimitExceededException;
 import com.musinsa.course.exception.DuplicateEnrollmentException;
@@ -12,89 +18,261 @@ import com.musinsa.course.exception.EnrollmentNotFoundException;
 import com.musinsa.course.exception.CourseNotFoundException;
 import com.musinsa.course.exception.StudentNotFoundException;
 import com.musinsa.course.exception.TimeConflictException;
-import com.musinsa.course.repository.CourseRepository;
 import com.musinsa.course.repository.EnrollmentRepository;
 import com.musinsa.course.repository.StudentRepository;
+import com.musinsa.course.repository.WaitlistRepository;
+import com.musinsa.course.service.EnrollmentMetrics.Stage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 @Service
 public class EnrollmentService {
 
     private static final Logger log = LoggerFactory.getLogger(EnrollmentService.class);
-    private static final int MAX_CREDITS = 18;
 
     private final EnrollmentRepository enrollmentRepository;
-    private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final SeatCounter seatCounter;
+    private final TimetableCache timetableCache;
+    private final CourseCatalog courseCatalog;
+    private final EnrollmentMetrics metrics;
+    private final SeatAcquisitionStrategy seatAcquisition;
+    private final ApplicationEventPublisher eventPublisher;
 
     public EnrollmentService(EnrollmentRepository enrollmentRepository,
-                             CourseRepository courseRepository,
-                             StudentRepository studentRepository) {
+                             StudentRepository studentRepository,
+                             WaitlistRepository waitlistRepository,
+                             SeatCounter seatCounter,
+                             TimetableCache timetableCache,
+                             CourseCatalog courseCatalog,
+                             EnrollmentMetrics metrics,
+                             SeatAcquisitionStrategy seatAcquisition,
+                             ApplicationEventPublisher eventPublisher) {
         this.enrollmentRepository = enrollmentRepository;
-        this.courseRepository = courseRepository;
         this.studentRepository = studentRepository;
+        this.waitlistRepository = waitlistRepository;
+        this.seatCounter = seatCounter;
+        this.timetableCache = timetableCache;
+        this.courseCatalog = courseCatalog;
+        this.metrics = metrics;
+        this.seatAcquisition = seatAcquisition;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * 수강신청. 대기자가 있는 강좌의 빈자리는 대기자 몫이므로 정원 초과로 거절한다 (대기 등록은 가능).
+     */
     @Transactional
     public EnrollmentResponse enroll(Long studentId, Long courseId) {
-        // 1. 강좌를 비관적 락과 함께 조회
-        Course course = courseRepository.findByIdWithLock(courseId)
-                .orElseThrow(() -> new CourseNotFoundException(courseId));
+        try {
+            return doEnroll(studentId, courseId, false);
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        }
+    }
 
-        // 2. 정원 체크
-        if (course.isFull()) {
-            throw new CapacityExceededException(course.getName(), course.getCapacity());
+    /**
+     * 대기자 승격용 수강신청. 대기열 선두인 학생이므로 대기자 확인 없이 {@link #enroll}과 같은 규칙을 적용한다.
+     * 메모리 좌석 카운터 대신 강좌 락을 잡은 DB 정원으로만 빈자리를 판단한다.
+     */
+    @Transactional
+    public EnrollmentResponse enrollFromWaitlist(Long studentId, Long courseId) {
+        try {
+            return doEnroll(studentId, courseId, true);
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
         }
+    }
 
-        // 3. 학생을 비관적 락과 함께 조회 (동일 학생의 동시 신청 직렬화)
+    /**
+     * 여러 강좌를 한 트랜잭션에서 신청한다. 강좌 락/좌석 확보는 id 순서로 해서 다른 일괄 신청과 교착되지 않게 하고,
+     * 학생 락과 시간표 조회는 한 번만 한 뒤 요청 순서대로 학점/시간표를 누적하며 메모리에서 검증한다.
+     * ALL_OR_NOTHING은 하나라도 거절되면 아무것도 신청하지 않고, BEST_EFFORT는 통과한 강좌만 신청한다.
+     */
+    @Transactional
+    public BulkEnrollmentResponse enrollAll(Long studentId, List<Long> courseIds, BulkEnrollmentMode mode) {
+        long t = System.nanoTime();
+        List<Long> requested = courseIds.stream().distinct().toList();
+        Map<Long, BusinessException> rejections = new HashMap<>();
+
+        // 0. 좌석 선점 (마감 강좌는 락 없이 거절, 롤백 시 자동 반환)
+        List<Long> reserved = new ArrayList<>(requested.size());
+        for (Long courseId : requested) {
+            try {
+                seatCounter.reserve(courseId);
+                reserved.add(courseId);
+            } catch (CourseNotFoundException | CapacityExceededException e) {
+                rejections.put(courseId, e);
+            }
+        }
+        t = metrics.lap(Stage.SEAT_RESERVE, t);
+
+        // 1. 강좌 조회(락)는 id 오름차순으로 (ALL_OR_NOTHING에서 이미 거절된 강좌가 있으면 락을 잡을 필요가 없다)
+        Map<Long, Course> courses = new HashMap<>();
+        if (mode == BulkEnrollmentMode.BEST_EFFORT || rejections.isEmpty()) {
+            for (Long courseId : reserved.stream().sorted().toList()) {
+                try {
+                    courses.put(courseId, seatAcquisition.load(courseId));
+                } catch (CourseNotFoundException e) {
+                    rejections.put(courseId, e);
+                }
+            }
+        }
+        t = metrics.lap(Stage.COURSE_LOCK, t);
+
+        // 2. 학생 락과 시간표 조회는 한 번만
         Student student = studentRepository.findByIdWithLock(studentId)
                 .orElseThrow(() -> new StudentNotFoundException(studentId));
+        t = metrics.lap(Stage.STUDENT_LOCK, t);
+        StudentTimetable timetable = loadTimetable(studentId);
+        t = metrics.lap(Stage.TIMETABLE_LOAD, t);
 
-        // 4. 중복 수강 체크
-        enrollmentRepository.findByStudentIdAndCourseId(studentId, courseId)
-                .ifPresent(e -> {
-                    throw new DuplicateEnrollmentException(course.getName());
-                });
+        // 3. 요청 순서대로 검증하면서 통과한 강좌의 학점과 시간표를 누적
+        List<Course> accepted = new ArrayList<>(courses.size());
+        int credits = student.getEnrolledCredits();
+        for (Long courseId : requested) {
+            Course course = courses.get(courseId);
+            if (course == null) {
+                continue;
+            }
+            try {
+                if (course.isFull()) {
+                    seatCounter.invalidate(courseId);
+                    EnrollmentRules.checkCapacity(course);
+                }
+                EnrollmentRules.checkDuplicate(timetable, course);
+                EnrollmentRules.checkCreditLimit(credits, course);
+                CourseTimetable courseTimetable = timetableCache.get(courseId);
+                EnrollmentRules.checkTimeConflict(timetable, courseTimetable);
+                timetable = timetable.plus(courseTimetable);
+                credits += course.getCredits();
+                accepted.add(course);
+            } catch (CapacityExceededException | DuplicateEnrollmentException
+                     | CreditLimitExceededException | TimeConflictException e) {
+                rejections.put(courseId, e);
+            }
+        }
+        rejections.values().forEach(metrics::failed);
+        t = metrics.lap(Stage.CONFLICT_CHECK, t);
 
-        // 5. 학점 제한 체크
-        validateCreditLimit(student, course);
+        // 4. 좌석 확정도 id 순서로 (조건부 UPDATE 전략은 여기서 강좌 행 락을 잡는다)
+        List<Course> acquired = new ArrayList<>(accepted.size());
+        if (mode == BulkEnrollmentMode.BEST_EFFORT || rejections.isEmpty()) {
+            accepted.sort(Comparator.comparing(Course::getId));
+            for (Course course : accepted) {
+                if (!seatAcquisition.acquire(course)) {
+                    seatCounter.invalidate(course.getId());
+                    CapacityExceededException e = new CapacityExceededException(course.getName(), course.getCapacity());
+                    rejections.put(course.getId(), e);
+                    metrics.failed(e);
+                } else if (hasWaitlist(course)) {
+                    seatAcquisition.release(course);
+                    CapacityExceededException e = new CapacityExceededException(course.getName(), course.getCapacity());
+                    rejections.put(course.getId(), e);
+                    metrics.failed(e);
+                } else {
+                    acquired.add(course);
+                }
+            }
+            // 검증 이후 마감된 강좌가 있으면 이미 확보한 좌석까지 롤백 (선점 좌석은 롤백 시 자동 반환)
+            if (mode == BulkEnrollmentMode.ALL_OR_NOTHING && !rejections.isEmpty()) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                acquired.clear();
+            }
+        }
 
-        // 6. 시간 충돌 체크
-        validateTimeConflict(student, course);
+        // 5. 신청 처리 (ALL_OR_NOTHING에서 거절이 있으면 쓰기 없이 끝나므로 선점 좌석은 모두 반환)
+        Map<Long, EnrollmentResponse> enrolled = new HashMap<>();
+        for (Course course : acquired) {
+            student.addCredits(course.getCredits());
+            Enrollment enrollment = enrollmentRepository.save(new Enrollment(student, course));
+            courseCatalog.recordEnrolledChange(course.getId(), 1);
+            enrolled.put(course.getId(), new EnrollmentResponse(enrollment));
+        }
+        for (Long courseId : reserved) {
+            if (!enrolled.containsKey(courseId)) {
+                seatCounter.releaseAfterCommit(courseId);
+            }
+        }
+        metrics.lap(Stage.INSERT, t);
 
-        // 7. 수강신청 처리
-        course.incrementEnrolled();
-        Enrollment enrollment = new Enrollment(student, course);
-        enrollmentRepository.save(enrollment);
+        List<BulkEnrollmentResult> results = new ArrayList<>(requested.size());
+        for (Long courseId : requested) {
+            BusinessException rejection = rejections.get(courseId);
+            if (enrolled.containsKey(courseId)) {
+                results.add(BulkEnrollmentResult.enrolled(enrolled.get(courseId)));
+            } else if (rejection != null) {
+                results.add(BulkEnrollmentResult.rejected(courseId, rejection.getCode(), rejection.getMessage()));
+            } else {
+                results.add(BulkEnrollmentResult.notApplied(courseId));
+            }
+        }
 
-        log.info("수강신청 성공 - 학생: {} ({}), 강좌: {} ({})",
-                student.getName(), student.getStudentNumber(),
-                course.getName(), course.getCourseCode());
+        log.info("일괄 수강신청 - 학생: {} ({}), 모드: {}, 요청: {}, 성공: {}, 거절: {}",
+                student.getName(), student.getStudentNumber(), mode,
+                requested.size(), enrolled.size(), rejections.size());
 
-        return new EnrollmentResponse(enrollment);
+        return new BulkEnrollmentResponse(studentId, mode, results);
     }
 
     @Transactional
     public void cancel(Long enrollmentId) {
+        long t = System.nanoTime();
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
+        t = metrics.lap(Stage.CANCEL_LOAD, t);
 
-        // 강좌를 락과 함께 조회하여 enrolled 감소
-        Course course = courseRepository.findByIdWithLock(enrollment.getCourse().getId())
-                .orElseThrow(() -> new CourseNotFoundException(enrollment.getCourse().getId()));
+        // 강좌 조회 (비관적 락 전략은 여기서 강좌 락)
+        Course course = seatAcquisition.load(enrollment.getCourse().getId());
+        t = metrics.lap(Stage.CANCEL_COURSE_LOCK, t);
+
+        // 학생 학점 합계도 함께 줄이므로 수강신청과 같은 순서(강좌 → 학생, 조건부 UPDATE는 학생 → 강좌 행)로 락을 잡는다
+        Long studentId = enrollment.getStudent().getId();
+        Student student = studentRepository.findByIdWithLock(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        t = metrics.lap(Stage.CANCEL_STUDENT_LOCK, t);
 
-        course.decrementEnrolled();
+        seatAcquisition.release(course);
+        student.subtractCredits(course.getCredits());
         enrollmentRepository.delete(enrollment);
+        seatCounter.releaseAfterCommit(course.getId());
+        courseCatalog.recordEnrolledChange(course.getId(), -1);
+        // 커밋 후 대기자 승격 (WaitlistPromoter)
+        eventPublisher.publishEvent(new SeatReleasedEvent(course.getId()));
+        metrics.lap(Stage.CANCEL_DELETE, t);
 
         log.info("수강취소 완료 - 학생: {} ({}), 강좌: {} ({})",
-                enrollment.getStudent().getName(), enrollment.getStudent().getStudentNumber(),
+                student.getName(), student.getStudentNumber(),
                 course.getName(), course.getCourseCode());
     }
 
+    /**
+     * 수강 중인 강좌 하나를 취소하고 다른 강좌를 신청하는 것을 한 트랜잭션에서 처리한다.
+     * 두 강좌는 id 순서로 락을 잡고(이후 학생 락), 학점과 시간 충돌은 취소할 강좌를 뺀 시간표 기준으로 검증한다.
+     * 검증에 실패하면 취소도 되지 않는다.
+     */
+    @Transactional
+    public EnrollmentResponse swap(Long enrollmentId, Long newCourseId) {
+        try {
+            return doSwap(enrollmentId, newCourseId);
+        } catch (RuntimeException e) {
+            metrics.failed(e);
+            throw e;
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<EnrollmentResponse> getStudentEnrollments(Long studentId) {
         if (!studentRepository.existsById(studentId)) {
@@ -105,28 +283,179 @@ public class EnrollmentService {
                 .toList();
     }
 
-    private void validateCreditLimit(Student student, Course course) {
-        int currentCredits = enrollmentRepository.sumCreditsByStudentId(student.getId());
+    /**
+     * 지금 신청해도 정원/시간 충돌/학점 규칙에 걸리지 않는 강좌 목록.
+     * 학생 조회와 수강 시간표 조회 두 번의 쿼리 외에는 강좌 목록 스냅샷에서 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public AvailableCoursesResponse findAvailableCourses(Long studentId) {
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        int remainingCredits = EnrollmentRules.MAX_CREDITS - student.getEnrolledCredits();
+        List<CourseResponse> courses = courseCatalog.findFitting(loadTimetable(studentId), remainingCredits);
+        return new AvailableCoursesResponse(studentId, student.getEnrolledCredits(), remainingCredits, courses);
+    }
+
+    private EnrollmentResponse doEnroll(Long studentId, Long courseId, boolean promotion) {
+        long t = System.nanoTime();
+
+        // 0. 메모리 좌석 카운터에서 좌석 선점 (마감 강좌는 DB 락 없이 즉시 거절, 롤백 시 자동 반환)
+        // 승격은 카운터를 거치지 않는다: 대기자 확인에서 거절될 직접 신청이 잠깐 쥔 카운터 좌석 때문에 빈자리를 놓치지 않도록
+        // 강좌 락 아래의 DB 정원만으로 판단하고, 커밋 후 카운터를 다시 채운다
+        if (promotion) {
+            seatCounter.invalidateAfterCommit(courseId);
+        } else {
+            seatCounter.reserve(courseId);
+        }
+        t = metrics.lap(Stage.SEAT_RESERVE, t);
+
+        // 1. 강좌 조회 (비관적 락 전략은 여기서 강좌 락, 조건부 UPDATE 전략은 락 없이 조회)
+        Course course = seatAcquisition.load(courseId);
+        t = metrics.lap(Stage.COURSE_LOCK, t);
+
+        // 2. 정원 체크 (최종 판단은 8단계의 좌석 확정, 카운터가 어긋났다면 다시 채우도록 폐기)
+        if (course.isFull()) {
+            seatCounter.invalidate(courseId);
+            EnrollmentRules.checkCapacity(course);
+        }
+
+        // 3. 학생을 비관적 락과 함께 조회 (동일 학생의 동시 신청 직렬화)
+        Student student = studentRepository.findByIdWithLock(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        t = metrics.lap(Stage.STUDENT_LOCK, t);
+
+        // 4. 학생의 수강 중인 강좌와 시간표를 한 번의 쿼리로 조회 (이후 검증은 모두 메모리에서 처리)
+        StudentTimetable timetable = loadTimetable(studentId);
+        t = metrics.lap(Stage.TIMETABLE_LOAD, t);
+
+        // 5. 중복 수강 체크
+        EnrollmentRules.checkDuplicate(timetable, course);
+        t = metrics.lap(Stage.DUPLICATE_CHECK, t);
+
+        // 6. 학점 제한 체크 (학생 행 락으로 보호되는 누적 학점 사용, SUM 집계 쿼리 없음)
+        EnrollmentRules.checkCreditLimit(student.getEnrolledCredits(), course);
+        t = metrics.lap(Stage.CREDIT_CHECK, t);
+
+        // 7. 시간 충돌 체크
+        EnrollmentRules.checkTimeConflict(timetable, timetableCache.get(courseId));
+        t = metrics.lap(Stage.CONFLICT_CHECK, t);
+
+        // 8. 좌석 확정 후 수강신청 처리 (승격이 아니면 대기자가 없어야 한다)
+        acquireSeat(course);
+        if (!promotion) {
+            checkNoWaitlist(course);
+        }
+        student.addCredits(course.getCredits());
+        Enrollment enrollment = new Enrollment(student, course);
+        enrollmentRepository.save(enrollment);
+        courseCatalog.recordEnrolledChange(courseId, 1);
+        metrics.lap(Stage.INSERT, t);
+
+        log.info("수강신청 성공 - 학생: {} ({}), 강좌: {} ({})",
+                student.getName(), student.getStudentNumber(),
+                course.getName(), course.getCourseCode());
+
+        return new EnrollmentResponse(enrollment);
+    }
+
+    private EnrollmentResponse doSwap(Long enrollmentId, Long newCourseId) {
+        long t = System.nanoTime();
+        Enrollment dropped = enrollmentRepository.findById(enrollmentId)
+                .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
+        Long droppedCourseId = dropped.getCourse().getId();
+        Long studentId = dropped.getStudent().getId();
+        if (droppedCourseId.equals(newCourseId)) {
+            throw new DuplicateEnrollmentException(dropped.getCourse().getName());
+        }
+        t = metrics.lap(Stage.SWAP_LOAD, t);
+
+        // 0. 신청할 강좌의 좌석 선점 (마감이면 락 없이 거절, 롤백 시 자동 반환)
+        seatCounter.reserve(newCourseId);
+        t = metrics.lap(Stage.SWAP_SEAT_RESERVE, t);
+
+        // 1. 두 강좌를 id 오름차순으로 조회(락) - 반대 방향으로 교체하는 요청과 교착되지 않도록
+        Course droppedCourse;
+        Course newCourse;
+        if (droppedCourseId < newCourseId) {
+            droppedCourse = seatAcquisition.load(droppedCourseId);
+            newCourse = seatAcquisition.load(newCourseId);
+        } else {
+            newCourse = seatAcquisition.load(newCourseId);
+            droppedCourse = seatAcquisition.load(droppedCourseId);
+        }
+        if (newCourse.isFull()) {
+            seatCounter.invalidate(newCourseId);
+            EnrollmentRules.checkCapacity(newCourse);
+        }
+        t = metrics.lap(Stage.SWAP_COURSE_LOCK, t);
+
+        // 2. 학생 락
+        Student student = studentRepository.findByIdWithLock(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        t = metrics.lap(Stage.SWAP_STUDENT_LOCK, t);
 
-        if (currentCredits + course.getCredits() > MAX_CREDITS) {
-            throw new CreditLimitExceededException(currentCredits, course.getCredits());
+        // 3. 취소할 강좌를 뺀 시간표로 검증 (학생 락을 기다리는 사이 이미 취소되었으면 거절)
+        StudentTimetable timetable = loadTimetable(studentId);
+        if (!timetable.contains(droppedCourseId)) {
+            throw new EnrollmentNotFoundException(enrollmentId);
         }
+        StudentTimetable afterDrop = timetable.minus(droppedCourseId);
+        EnrollmentRules.checkDuplicate(afterDrop, newCourse);
+        EnrollmentRules.checkCreditLimit(student.getEnrolledCredits() - droppedCourse.getCredits(), newCourse);
+        EnrollmentRules.checkTimeConflict(afterDrop, timetableCache.get(newCourseId));
+        t = metrics.lap(Stage.SWAP_CHECK, t);
+
+        // 4. 좌석 반환/확정도 id 순서로 (조건부 UPDATE 전략은 여기서 강좌 행 락)
+        if (droppedCourseId < newCourseId) {
+            seatAcquisition.release(droppedCourse);
+            acquireSeat(newCourse);
+        } else {
+            acquireSeat(newCourse);
+            seatAcquisition.release(droppedCourse);
+        }
+        checkNoWaitlist(newCourse);
+        student.subtractCredits(droppedCourse.getCredits());
+        student.addCredits(newCourse.getCredits());
+        enrollmentRepository.delete(dropped);
+        Enrollment enrollment = enrollmentRepository.save(new Enrollment(student, newCourse));
+
+        seatCounter.releaseAfterCommit(droppedCourseId);
+        courseCatalog.recordEnrolledChange(droppedCourseId, -1);
+        courseCatalog.recordEnrolledChange(newCourseId, 1);
+        // 커밋 후 취소한 강좌의 대기자 승격 (WaitlistPromoter)
+        eventPublisher.publishEvent(new SeatReleasedEvent(droppedCourseId));
+        metrics.lap(Stage.SWAP_APPLY, t);
+
+        log.info("강좌 교체 완료 - 학생: {} ({}), 취소: {} ({}), 신청: {} ({})",
+                student.getName(), student.getStudentNumber(),
+                droppedCourse.getName(), droppedCourse.getCourseCode(),
+                newCourse.getName(), newCourse.getCourseCode());
+
+        return new EnrollmentResponse(enrollment);
     }
 
-    private void validateTimeConflict(Student student, Course newCourse) {
-        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(student.getId());
-
-        for (Enrollment enrollment : enrollments) {
-            Course existingCourse = enrollment.getCourse();
-            for (CourseSchedule existingSchedule : existingCourse.getSchedules()) {
-                for (CourseSchedule newSchedule : newCourse.getSchedules()) {
-                    if (existingSchedule.overlapsWith(newSchedule)) {
-                        throw new TimeConflictException(
-                                existingCourse.getName(),
-                                existingSchedule.toDisplayString());
-                    }
-                }
-            }
+    private void acquireSeat(Course course) {
+        if (!seatAcquisition.acquire(course)) {
+            seatCounter.invalidate(course.getId());
+            throw new CapacityExceededException(course.getName(), course.getCapacity());
+        }
+    }
+
+    /**
+     * 대기자가 있는 강좌의 빈자리는 {@link WaitlistPromoter}가 순서대로 채운다.
+     * 좌석 확정으로 강좌 행 락을 잡은 뒤에 확인하므로 대기 등록(강좌 락)과 엇갈리지 않는다. 거절되면 트랜잭션과 함께 좌석도 롤백된다.
+     */
+    private void checkNoWaitlist(Course course) {
+        if (hasWaitlist(course)) {
+            throw new CapacityExceededException(course.getName(), course.getCapacity());
         }
     }
+
+    private boolean hasWaitlist(Course course) {
+        return waitlistRepository.existsByCourseIdAndStatus(course.getId(), WaitlistStatus.WAITING);
+    }
+
+    private StudentTimetable loadTimetable(Long studentId) {
+        return StudentTimetable.of(enrollmentRepository.findEnrolledSlotsByStudentId(studentId), timetableCache);
+    }
 }
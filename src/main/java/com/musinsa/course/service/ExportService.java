@@ -0,0 +1,231 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.dto.ExportFormat;
+import com.musinsa.course.exception.ExportBusyException;
+import com.musinsa.course.repository.EnrollmentExportRow;
+import com.musinsa.course.repository.EnrollmentRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 수강신청 내역과 강좌 목록을 NDJSON/CSV로 응답 스트림에 바로 쓴다.
+ *
+ * <p>수강신청 내역은 전진 전용 {@link Stream}으로 fetch size만큼씩 읽어 한 행씩 쓰므로,
+ * 전체 결과를 List로 모으지 않아 건수와 무관하게 메모리 사용량이 일정하다.
+ * 행은 생성자 표현식으로 만든 DTO라 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+ *
+ * <p>수강신청 내역 내보내기는 다운로드가 끝날 때까지 트랜잭션과 커넥션(DB 게이트를 켰다면 허가도)을 잡으므로,
+ * 동시에 {@code course.export.max-concurrent}건까지만 받아 수강신청에 쓸 커넥션을 남겨 둔다.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final List<Column<EnrollmentExportRow>> ENROLLMENT_COLUMNS = List.of(
+            new Column<>("enrollmentId", EnrollmentExportRow::getEnrollmentId),
+            new Column<>("studentId", EnrollmentExportRow::getStudentId),
+            new Column<>("studentNumber", EnrollmentExportRow::getStudentNumber),
+            new Column<>("studentName", EnrollmentExportRow::getStudentName),
+            new Column<>("courseId", EnrollmentExportRow::getCourseId),
+            new Column<>("courseCode", EnrollmentExportRow::getCourseCode),
+            new Column<>("courseName", EnrollmentExportRow::getCourseName),
+            new Column<>("credits", EnrollmentExportRow::getCredits),
+            new Column<>("enrolledAt", EnrollmentExportRow::getEnrolledAt)
+    );
+
+    private static final List<Column<CourseResponse>> COURSE_COLUMNS = List.of(
+            new Column<>("id", CourseResponse::getId),
+            new Column<>("courseCode", CourseResponse::getCourseCode),
+            new Column<>("name", CourseResponse::getName),
+            new Column<>("credits", CourseResponse::getCredits),
+            new Column<>("capacity", CourseResponse::getCapacity),
+            new Column<>("enrolled", CourseResponse::getEnrolled),
+            new Column<>("schedule", CourseResponse::getSchedule),
+            new Column<>("professor", CourseResponse::getProfessor),
+            new Column<>("department", CourseResponse::getDepartment)
+    );
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseCatalog courseCatalog;
+    private final JsonMapper jsonMapper;
+    private final int maxConcurrentExports;
+    private final Semaphore enrollmentExports;
+
+    public ExportService(EnrollmentRepository enrollmentRepository, CourseCatalog courseCatalog,
+                         JsonMapper jsonMapper,
+                         @Value("${course.export.max-concurrent:2}") int maxConcurrentExports) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseCatalog = courseCatalog;
+        this.jsonMapper = jsonMapper;
+        this.maxConcurrentExports = maxConcurrentExports;
+        this.enrollmentExports = new Semaphore(maxConcurrentExports);
+    }
+
+    /**
+     * 수강신청 내역 내보내기 자리를 하나 잡는다. 자리가 없으면 기다리지 않고 {@link ExportBusyException}.
+     * 잡은 자리는 {@link ExportSlot}의 규칙대로 정확히 한 번 돌려준다.
+     */
+    public ExportSlot acquireEnrollmentExport() {
+        if (!enrollmentExports.tryAcquire()) {
+            throw new ExportBusyException(maxConcurrentExports);
+        }
+        return new ExportSlot(enrollmentExports);
+    }
+
+    /**
+     * 수강신청 내역을 쓴다. courseId가 있으면 해당 강좌의 수강생 명단만 학번순으로 쓴다.
+     * 스트림은 트랜잭션 안에서 소비하고 닫아야 하므로 쓰기가 끝날 때까지 읽기 전용 트랜잭션을 유지한다.
+     *
+     * @return 쓴 행 수
+     */
+    @Transactional(readOnly = true)
+    public long writeEnrollments(OutputStream out, ExportFormat format, Long courseId) {
+        long start = System.nanoTime();
+        long count;
+        try (Stream<EnrollmentExportRow> rows = courseId != null
+                ? enrollmentRepository.streamByCourseIdForExport(courseId)
+                : enrollmentRepository.streamAllForExport()) {
+            count = write(out, format, ENROLLMENT_COLUMNS, rows.iterator());
+        }
+        log.info("수강신청 내보내기 완료: format={}, courseId={}, rows={}, {}ms",
+                format, courseId, count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    /**
+     * 강좌 목록을 쓴다. DB 대신 메모리의 강좌 카탈로그 스냅샷을 사용한다.
+     *
+     * @return 쓴 행 수
+     */
+    public long writeCourses(OutputStream out, ExportFormat format) {
+        long count = write(out, format, COURSE_COLUMNS, courseCatalog.getAll().iterator());
+        log.info("강좌 목록 내보내기 완료: format={}, rows={}", format, count);
+        return count;
+    }
+
+    private <T> long write(OutputStream out, ExportFormat format, List<Column<T>> columns, Iterator<T> rows) {
+        // 응답 스트림은 컨테이너가 닫으므로 여기서는 flush만 한다
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(Column::name).toList());
+            }
+            long count = 0;
+            while (rows.hasNext()) {
+                T row = rows.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, columns.stream().map(column -> column.valueOf(row)).toList());
+                } else {
+                    Map<String, Object> object = new LinkedHashMap<>();
+                    columns.forEach(column -> object.put(column.name(), column.valueOf(row)));
+                    writer.write(jsonMapper.writeValueAsString(object));
+                    writer.write('\n');
+                }
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static final class Column<T> {
+
+        private final String name;
+        private final Function<T, Object> extractor;
+
+        Column(String name, Function<T, Object> extractor) {
+            this.name = name;
+            this.extractor = extractor;
+        }
+
+        String name() {
+            return name;
+        }
+
+        Object valueOf(T row) {
+            return extractor.apply(row);
+        }
+    }
+
+    /**
+     * 내보내기 자리 하나. 응답 본문이 {@link #begin}으로 자리를 가져가면 쓰기가 끝난 뒤 {@link #finish}로 돌려주고,
+     * 본문이 시작되기 전에 요청이 끝나면(작업 거부, 비동기 타임아웃/오류) {@link #abandon}이 돌려준다.
+     * 둘 중 먼저 가져간 쪽만 돌려주므로 자리가 새거나 두 번 반납되지 않는다.
+     */
+    public static final class ExportSlot {
+
+        private final Semaphore semaphore;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private ExportSlot(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        /**
+         * @return 본문이 써도 되면 true, 요청이 이미 끝나 자리를 돌려줬으면 false
+         */
+        public boolean begin() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /** {@link #begin}이 true였던 본문이 쓰기를 마친 뒤 호출한다. */
+        public void finish() {
+            semaphore.release();
+        }
+
+        /** 요청이 끝날 때 호출한다. 본문이 아직 시작되지 않았으면 자리를 돌려주고, 시작했으면 본문에 맡긴다. */
+        public void abandon() {
+            if (begin()) {
+                finish();
+            }
+        }
+    }
+}
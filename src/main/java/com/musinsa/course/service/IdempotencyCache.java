@@ -0,0 +1,210 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.exception.EnrollmentTimeoutException;
+import com.musinsa.course.exception.IdempotencyKeyReusedException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code Idempotency-Key} 헤더로 들어온 수강신청 결과를 메모리에 보관한다.
+ *
+ * <p>같은 학생이 같은 키로 다시 보낸 요청은 원래 {@link EnrollmentResponse}를 DB 접근 없이 돌려주고,
+ * 아직 처리 중인 요청과 겹치면 새로 실행하지 않고 그 결과를 함께 기다린다.
+ * 성공한 결과만 남기며, 실패한 요청은 바로 지워 재시도가 다시 실행되도록 한다 (함께 기다리던 요청은 같은 예외를 받는다).
+ * 함께 기다리는 요청은 {@code await-timeout-ms}까지만 기다리고 {@link EnrollmentTimeoutException}으로 끝난다.
+ * 파이프라인 수강신청은 {@link #executeAsync}로 결과가 정해질 때까지 항목을 남겨, 시간 초과 후 재시도가 중복 신청이 되지 않는다.
+ *
+ * <p>항목은 {@code ttl-seconds}가 지나면 만료되고, {@code max-entries}를 넘으면 오래된 것부터 지운다.
+ * 정리는 별도 스레드 없이 새 키를 등록할 때 등록 순서 큐의 앞에서부터 처리한다.
+ * 실패로 지운 항목은 바로 개수에서 빼고, 등록 순서 큐에서는 앞에 닿았을 때 건너뛴다.
+ */
+@Component
+public class IdempotencyCache {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyCache.class);
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 등록 순서 = 만료 순서
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long awaitTimeoutMillis;
+
+    public IdempotencyCache(@Value("${course.idempotency.ttl-seconds:600}") int ttlSeconds,
+                            @Value("${course.idempotency.max-entries:100000}") int maxEntries,
+                            @Value("${course.idempotency.await-timeout-ms:10000}") long awaitTimeoutMillis) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+    }
+
+    /**
+     * 키에 해당하는 결과가 있으면 돌려주고, 없으면 {@code enroll}을 한 번만 실행해 결과를 보관한다.
+     * 같은 키를 다른 강좌 신청에 쓰면 {@link IdempotencyKeyReusedException}.
+     */
+    public EnrollmentResponse execute(String key, Long studentId, Long courseId, Supplier<EnrollmentResponse> enroll) {
+        Entry entry = new Entry(studentId + ":" + key, courseId, System.nanoTime());
+        Entry existing = enter(key, entry);
+        return existing == null ? run(entry, enroll) : await(existing);
+    }
+
+    /**
+     * {@link #execute}와 같지만 결과가 비동기로 정해지는 수강신청(그룹 커밋 파이프라인)용.
+     * 항목은 {@code enroll}이 돌려준 결과가 정해질 때까지 처리 중으로 남는다. 그래서 결과를 {@code await-timeout-ms} 안에
+     * 받지 못해 {@link EnrollmentTimeoutException}으로 끝난 요청을 같은 키로 다시 보내면, 새로 실행하지 않고 대기열에 남은
+     * 원래 요청의 결과를 기다린다.
+     */
+    public EnrollmentResponse executeAsync(String key, Long studentId, Long courseId,
+                                           Supplier<CompletableFuture<EnrollmentResponse>> enroll) {
+        Entry entry = new Entry(studentId + ":" + key, courseId, System.nanoTime());
+        Entry existing = enter(key, entry);
+        if (existing != null) {
+            return await(existing);
+        }
+        CompletableFuture<EnrollmentResponse> outcome;
+        try {
+            outcome = enroll.get();
+        } catch (Throwable e) {
+            fail(entry, e);
+            throw e;
+        }
+        outcome.whenComplete((response, failure) -> {
+            if (failure == null) {
+                entry.result.complete(response);
+            } else {
+                fail(entry, failure instanceof CompletionException ? failure.getCause() : failure);
+            }
+        });
+        return await(entry);
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * 새 항목을 등록하면 null, 같은 키의 유효한 항목이 있으면 그 항목을 돌려준다.
+     */
+    private Entry enter(String key, Entry entry) {
+        while (true) {
+            Entry existing = entries.putIfAbsent(entry.key, entry);
+            if (existing == null) {
+                register(entry);
+                return null;
+            }
+            if (isExpired(existing, entry.createdAt)) {
+                // 만료된 항목을 새 항목으로 교체 (다른 요청이 먼저 교체했으면 다시 확인)
+                if (entries.replace(entry.key, existing, entry)) {
+                    register(entry);
+                    return null;
+                }
+                continue;
+            }
+            if (!existing.courseId.equals(entry.courseId)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            log.debug("Idempotency-Key 재요청 - {}, 강좌: {}, 처리 중: {}",
+                    entry.key, entry.courseId, !existing.result.isDone());
+            return existing;
+        }
+    }
+
+    private EnrollmentResponse run(Entry entry, Supplier<EnrollmentResponse> enroll) {
+        try {
+            EnrollmentResponse response = enroll.get();
+            entry.result.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // Error로 끝나도 함께 기다리는 요청이 풀려나도록 결과를 채운다
+            fail(entry, e);
+            throw e;
+        }
+    }
+
+    private void fail(Entry entry, Throwable failure) {
+        forget(entry);
+        entry.result.completeExceptionally(failure);
+    }
+
+    private EnrollmentResponse await(Entry entry) {
+        try {
+            return entry.result.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new EnrollmentTimeoutException(awaitTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EnrollmentTimeoutException(awaitTimeoutMillis);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    private void forget(Entry entry) {
+        entries.remove(entry.key, entry);
+        if (entry.counted.compareAndSet(true, false)) {
+            size.decrementAndGet();
+        }
+    }
+
+    private void register(Entry entry) {
+        insertionOrder.add(entry);
+        size.incrementAndGet();
+        evict(entry.createdAt);
+    }
+
+    private void evict(long now) {
+        while (true) {
+            Entry oldest = insertionOrder.peek();
+            if (oldest == null) {
+                return;
+            }
+            // 실패로 이미 지운 항목은 개수와 무관하게 큐에서만 뺀다
+            boolean forgotten = !oldest.counted.get();
+            if (!forgotten && size.get() <= maxEntries && !isExpired(oldest, now)) {
+                return;
+            }
+            if (insertionOrder.remove(oldest)) {
+                forget(oldest);
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.createdAt > ttlNanos;
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final Long courseId;
+        private final long createdAt;
+        private final CompletableFuture<EnrollmentResponse> result = new CompletableFuture<>();
+        // size에 포함되어 있는지 (실패/밀려남 중 먼저 일어난 쪽만 개수에서 뺀다)
+        private final AtomicBoolean counted = new AtomicBoolean(true);
+
+        private Entry(String key, Long courseId, long createdAt) {
+            this.key = key;
+            this.courseId = courseId;
+            this.createdAt = createdAt;
+        }
+    }
+}
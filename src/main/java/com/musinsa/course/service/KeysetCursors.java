@@ -0,0 +1,136 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.dto.CursorPage;
+import com.musinsa.course.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 목록 API의 keyset 페이지네이션 커서.
+ *
+ * <p>커서는 정렬 기준과 마지막 행의 정렬 키 값을 담은 JSON을 Base64URL로 감싼 불투명 문자열이다.
+ * 다음 페이지는 {@code WHERE (정렬키, id) > (마지막 값)}으로 바로 찾아가므로 OFFSET 건너뛰기와 COUNT 쿼리가 없다.
+ * 정렬 키가 같은 행이 여러 개여도 빠지거나 겹치지 않도록 항상 id를 두 번째 정렬 키로 붙인다.
+ */
+@Component
+public class KeysetCursors {
+
+    private static final String ID = "id";
+
+    private final JsonMapper jsonMapper;
+
+    public KeysetCursors(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * 커서가 있으면 커서에 담긴 정렬과 위치를, 없으면 요청한 정렬(없으면 id 오름차순)과 첫 위치를 돌려준다.
+     *
+     * @param keyTypes 허용하는 정렬 키와 그 타입 (id 포함)
+     */
+    public Position decode(String cursor, Sort requested, Map<String, Class<?>> keyTypes) {
+        if (cursor == null || cursor.isBlank()) {
+            Sort.Order order = requested == null || requested.isUnsorted()
+                    ? Sort.Order.asc(ID)
+                    : requested.iterator().next();
+            return new Position(order, ScrollPosition.keyset());
+        }
+
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> decoded = jsonMapper.readValue(json, Map.class);
+            // JSON null이거나 필드가 빠진 커서도 형식 오류로 처리 (Map.of 등은 null 키 조회에서 NPE)
+            if (decoded == null) {
+                throw new InvalidCursorException();
+            }
+            String property = (String) decoded.get("sort");
+            String rawDirection = (String) decoded.get("direction");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> rawKeys = (Map<String, Object>) decoded.get("keys");
+            if (property == null || rawDirection == null || rawKeys == null || !keyTypes.containsKey(property)) {
+                throw new InvalidCursorException();
+            }
+            Sort.Direction direction = Sort.Direction.fromString(rawDirection);
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String key : property.equals(ID) ? List.of(ID) : List.of(property, ID)) {
+                keys.put(key, convert(rawKeys.get(key), keyTypes.get(key)));
+            }
+            return new Position(new Sort.Order(direction, property), ScrollPosition.forward(keys));
+        } catch (IllegalArgumentException | ClassCastException | JacksonException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * 조회한 창(window)을 응답으로 바꾸고, 다음 페이지가 있으면 마지막 행 위치로 커서를 만든다.
+     */
+    public <T, R> CursorPage<R> toPage(Window<T> window, Position position, Function<T, R> mapper) {
+        List<R> content = window.getContent().stream().map(mapper).toList();
+        if (!window.hasNext() || window.isEmpty()) {
+            return new CursorPage<>(content, null);
+        }
+
+        KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        Map<String, Object> cursor = new LinkedHashMap<>();
+        cursor.put("sort", position.order.getProperty());
+        cursor.put("direction", position.order.getDirection().name());
+        cursor.put("keys", last.getKeys());
+        String encoded = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(jsonMapper.writeValueAsBytes(cursor));
+        return new CursorPage<>(content, encoded);
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null) {
+            throw new InvalidCursorException();
+        }
+        if (type == Long.class) {
+            return ((Number) value).longValue();
+        }
+        if (type == Integer.class) {
+            return ((Number) value).intValue();
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * 조회할 정렬과 시작 위치.
+     */
+    public static final class Position {
+
+        private final Sort.Order order;
+        private final KeysetScrollPosition scrollPosition;
+
+        private Position(Sort.Order order, KeysetScrollPosition scrollPosition) {
+            this.order = order;
+            this.scrollPosition = scrollPosition;
+        }
+
+        public KeysetScrollPosition getScrollPosition() {
+            return scrollPosition;
+        }
+
+        /**
+         * 정렬 키 + id (같은 방향) 정렬.
+         */
+        public Sort getSort() {
+            if (order.getProperty().equals(ID)) {
+                return Sort.by(order);
+            }
+            return Sort.by(order, new Sort.Order(order.getDirection(), ID));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.exception.CourseNotFoundException;
+import com.musinsa.course.repository.CourseRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강좌 행을 PESSIMISTIC_WRITE로 조회해 트랜잭션 끝까지 락을 잡고, 락 안에서 정원을 판단한다.
+ * 강좌 락 → 학생 락 순서.
+ */
+@Component
+@ConditionalOnProperty(name = "course.enrollment.seat-acquisition", havingValue = "pessimistic", matchIfMissing = true)
+class PessimisticSeatAcquisition implements SeatAcquisitionStrategy {
+
+    private final CourseRepository courseRepository;
+    private final CourseContentionTracker contentionTracker;
+
+    PessimisticSeatAcquisition(CourseRepository courseRepository, CourseContentionTracker contentionTracker) {
+        this.courseRepository = courseRepository;
+        this.contentionTracker = contentionTracker;
+    }
+
+    @Override
+    public Course load(Long courseId) {
+        return contentionTracker.lock(courseId, () -> courseRepository.findByIdWithLock(courseId))
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+    }
+
+    @Override
+    public boolean acquire(Course course) {
+        if (course.isFull()) {
+            return false;
+        }
+        course.incrementEnrolled();
+        return true;
+    }
+
+    @Override
+    public void release(Course course) {
+        course.decrementEnrolled();
+    }
+}
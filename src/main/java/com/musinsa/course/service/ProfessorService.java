@@ -1,9 +1,14 @@
 package com.musinsa.course.service;
 
+import com.musinsa.course.dto.CursorPage;
 import com.musinsa.course.dto.ProfessorResponse;
 import com.musinsa.course.repository.ProfessorRepository;
+import java.util.Map;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,14 +16,37 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ProfessorService {
 
+    // keyset 페이지네이션 정렬 키와 커서 값 타입
+    private static final Map<String, Class<?>> KEY_TYPES = Map.of("id", Long.class, "name", String.class);
+
     private final ProfessorRepository professorRepository;
+    private final KeysetCursors keysetCursors;
 
-    public ProfessorService(ProfessorRepository professorRepository) {
+    public ProfessorService(ProfessorRepository professorRepository, KeysetCursors keysetCursors) {
         this.professorRepository = professorRepository;
+        this.keysetCursors = keysetCursors;
     }
 
     public Page<ProfessorResponse> getProfessors(Pageable pageable) {
         return professorRepository.findAll(pageable)
                 .map(ProfessorResponse::new);
     }
+
+    /**
+     * 전체 건수 없이 다음 페이지 유무만 반환한다 (COUNT 쿼리 생략).
+     */
+    public Slice<ProfessorResponse> getProfessorSlice(Pageable pageable) {
+        return professorRepository.findAllBy(pageable)
+                .map(ProfessorResponse::new);
+    }
+
+    /**
+     * keyset 페이지네이션. cursor가 없으면 sort 기준 첫 페이지, 있으면 커서에 담긴 정렬로 다음 페이지를 조회한다.
+     */
+    public CursorPage<ProfessorResponse> scrollProfessors(Sort sort, String cursor, int size) {
+        KeysetCursors.Position position = keysetCursors.decode(cursor, sort, KEY_TYPES);
+        return keysetCursors.toPage(
+                professorRepository.findBy(position.getScrollPosition(), position.getSort(), Limit.of(size)),
+                position, ProfessorResponse::new);
+    }
 }
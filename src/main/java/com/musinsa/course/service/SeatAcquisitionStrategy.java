@@ -0,0 +1,28 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+
+/**
+ * 수강신청/취소에서 강좌 좌석(enrolled)을 확보하고 반환하는 방법.
+ * {@code course.enrollment.seat-acquisition}으로 선택한다 ({@code pessimistic} 기본, {@code conditional-update}).
+ *
+ * <p>호출 순서는 {@link #load} → 학생 락/검증 → {@link #acquire}(신청) 또는 {@link #release}(취소)이며,
+ * 모두 같은 트랜잭션 안에서 호출된다.
+ */
+interface SeatAcquisitionStrategy {
+
+    /**
+     * 검증에 사용할 강좌를 조회한다. 비관적 락 전략은 여기서 강좌 행 락을 잡는다.
+     */
+    Course load(Long courseId);
+
+    /**
+     * 검증을 통과한 신청의 좌석 하나를 확정한다. 정원이 찼으면 false.
+     */
+    boolean acquire(Course course);
+
+    /**
+     * 수강취소한 좌석 하나를 반환한다.
+     */
+    void release(Course course);
+}
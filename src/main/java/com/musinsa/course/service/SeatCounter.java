@@ -0,0 +1,117 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.exception.CapacityExceededException;
+import com.musinsa.course.exception.CourseNotFoundException;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.CourseSeatView;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강좌별 잔여 좌석을 메모리에서 선점한다.
+ * 마감된 강좌 요청을 강좌 행 락 대기 없이 걸러내기 위한 1차 필터이며,
+ * 최종 정원 판단은 여전히 락을 잡은 Course 행이 담당한다.
+ *
+ * <p>카운터는 DB보다 좌석을 적게 보는 일이 없도록 유지한다(과소 허용 금지).
+ * 드물게 좌석을 더 많이 보더라도 DB 정원 체크에서 거절되고 카운터가 다시 동기화된다.
+ */
+@Component
+public class SeatCounter {
+
+    private final ConcurrentHashMap<Long, Seats> seats = new ConcurrentHashMap<>();
+
+    private final CourseRepository courseRepository;
+
+    public SeatCounter(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * 좌석 하나를 선점한다. 트랜잭션이 롤백되면 선점한 좌석은 자동으로 반환된다.
+     */
+    public void reserve(Long courseId) {
+        Seats entry = seatsOf(courseId);
+        if (!entry.tryTake()) {
+            throw new CapacityExceededException(entry.name, entry.capacity);
+        }
+        TransactionHooks.afterRollback(entry::giveBack);
+    }
+
+    /**
+     * 좌석을 선점하지 않고 마감 여부만 확인한다. 트랜잭션 밖에서 요청을 미리 걸러낼 때 사용한다.
+     */
+    public void checkAvailable(Long courseId) {
+        Seats entry = seatsOf(courseId);
+        if (entry.available.get() <= 0) {
+            throw new CapacityExceededException(entry.name, entry.capacity);
+        }
+    }
+
+    /**
+     * 트랜잭션이 커밋되면 좌석 하나를 반환한다 (수강취소, 일괄 신청에서 선점했지만 신청하지 않은 좌석).
+     */
+    public void releaseAfterCommit(Long courseId) {
+        TransactionHooks.afterCommit(() -> {
+            Seats entry = seats.get(courseId);
+            if (entry != null) {
+                entry.giveBack();
+            }
+        });
+    }
+
+    /**
+     * 카운터가 DB와 어긋난 것이 확인되면 버리고, 다음 요청에서 DB 값으로 다시 채운다.
+     */
+    public void invalidate(Long courseId) {
+        seats.remove(courseId);
+    }
+
+    /**
+     * 카운터를 거치지 않고 좌석이 바뀐 트랜잭션(일괄 처리 등)이 커밋되면 카운터를 다시 채우도록 폐기한다.
+     */
+    public void invalidateAfterCommit(Long courseId) {
+        TransactionHooks.afterCommit(() -> invalidate(courseId));
+    }
+
+    private Seats seatsOf(Long courseId) {
+        Seats entry = seats.get(courseId);
+        if (entry != null) {
+            return entry;
+        }
+        return seats.computeIfAbsent(courseId, id -> {
+            CourseSeatView view = courseRepository.findSeatViewById(id)
+                    .orElseThrow(() -> new CourseNotFoundException(id));
+            return new Seats(view.getName(), view.getCapacity(), view.getCapacity() - view.getEnrolled());
+        });
+    }
+
+    private static final class Seats {
+
+        private final String name;
+        private final int capacity;
+        private final AtomicInteger available;
+
+        private Seats(String name, int capacity, int available) {
+            this.name = name;
+            this.capacity = capacity;
+            this.available = new AtomicInteger(available);
+        }
+
+        private boolean tryTake() {
+            while (true) {
+                int current = available.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void giveBack() {
+            available.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.musinsa.course.service;
+
+import lombok.Getter;
+
+/**
+ * 수강취소로 강좌에 빈자리가 생겼음을 알린다. 트랜잭션 안에서 발행되며 커밋 이후 처리된다.
+ */
+@Getter
+public class SeatReleasedEvent {
+
+    private final Long courseId;
+
+    public SeatReleasedEvent(Long courseId) {
+        this.courseId = courseId;
+    }
+}
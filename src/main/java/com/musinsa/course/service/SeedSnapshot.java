@@ -0,0 +1,197 @@
+package com.musinsa.course.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초기 데이터 스냅샷. 생성한 DB를 H2 {@code SCRIPT DROP TO}로 압축 파일에 한 번 떠 두고,
+ * 다음 기동부터는 {@code RUNSCRIPT FROM}으로 통째로 읽어 JPA로 다시 생성하지 않는다.
+ *
+ * <p>파일 이름은 생성 파라미터와 현재 스키마(컬럼/타입, 시퀀스 증가폭, 제약 조건)의 해시라, 규모 설정이나 엔티티 매핑이 바뀌면
+ * 예전 파일을 쓰지 않고 새로 만든다. H2가 아니면 사용하지 않는다.
+ */
+@Component
+public class SeedSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedSnapshot.class);
+
+    private static final String COLUMN_QUERY = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS "
+            + "WHERE TABLE_SCHEMA = 'PUBLIC' ORDER BY TABLE_NAME, ORDINAL_POSITION";
+
+    // 복원된 시퀀스는 스크립트의 값과 증가폭을 그대로 쓰므로 allocationSize가 바뀌면 ID가 겹칠 수 있다
+    private static final String SEQUENCE_QUERY = "SELECT SEQUENCE_NAME, INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES "
+            + "WHERE SEQUENCE_SCHEMA = 'PUBLIC' ORDER BY SEQUENCE_NAME";
+
+    private static final String CONSTRAINT_QUERY = "SELECT tc.CONSTRAINT_NAME, tc.TABLE_NAME, tc.CONSTRAINT_TYPE, "
+            + "kcu.COLUMN_NAME, cc.CHECK_CLAUSE FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc "
+            + "LEFT JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu "
+            + "ON kcu.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME "
+            + "LEFT JOIN INFORMATION_SCHEMA.CHECK_CONSTRAINTS cc "
+            + "ON cc.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND cc.CONSTRAINT_NAME = tc.CONSTRAINT_NAME "
+            + "WHERE tc.TABLE_SCHEMA = 'PUBLIC' ORDER BY tc.CONSTRAINT_NAME, kcu.ORDINAL_POSITION";
+
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final Path directory;
+
+    public SeedSnapshot(DataSource dataSource,
+                        @Value("${course.data.snapshot.enabled:false}") boolean enabled,
+                        @Value("${course.data.snapshot.directory:build/seed-snapshot}") String directory) {
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.directory = Path.of(directory).toAbsolutePath();
+    }
+
+    /**
+     * 파라미터에 맞는 스냅샷이 있으면 현재 DB를 스냅샷 내용으로 바꾼다.
+     *
+     * @param parameters 생성 결과를 결정하는 파라미터 (같으면 같은 데이터)
+     * @return 복원했으면 true, 스냅샷이 없거나 사용하지 않으면 false
+     * @throws IllegalStateException 복원에 실패한 경우. 손상된 파일은 지워 다음 기동에서 다시 만든다.
+     */
+    public boolean restore(String parameters) {
+        if (!enabled) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!isH2(connection)) {
+                return false;
+            }
+            Path file = fileFor(connection, parameters);
+            if (!Files.exists(file)) {
+                log.info("초기 데이터 스냅샷 없음 - 생성 후 저장: {}", file);
+                return false;
+            }
+            long start = System.currentTimeMillis();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("RUNSCRIPT FROM " + quote(file) + " COMPRESSION GZIP");
+            } catch (SQLException e) {
+                Files.deleteIfExists(file);
+                throw new IllegalStateException("초기 데이터 스냅샷 복원 실패 (파일 삭제, 다음 기동 시 재생성): " + file, e);
+            }
+            log.info("초기 데이터 스냅샷 복원 - {} ({} bytes, {}ms)",
+                    file.getFileName(), Files.size(file), System.currentTimeMillis() - start);
+            return true;
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("초기 데이터 스냅샷 확인 실패", e);
+        }
+    }
+
+    /**
+     * 현재 DB를 파라미터에 해당하는 스냅샷 파일로 저장한다. 실패해도 기동은 계속한다.
+     */
+    public void save(String parameters) {
+        if (!enabled) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!isH2(connection)) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            Path file = fileFor(connection, parameters);
+            Files.createDirectories(directory);
+            // 쓰는 도중 중단돼도 불완전한 파일이 복원되지 않도록 임시 파일에 쓴 뒤 이름을 바꾼다
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SCRIPT DROP TO " + quote(temp) + " COMPRESSION GZIP");
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.info("초기 데이터 스냅샷 저장 - {} ({} bytes, {}ms)",
+                    file, Files.size(file), System.currentTimeMillis() - start);
+        } catch (SQLException | IOException e) {
+            log.warn("초기 데이터 스냅샷 저장 실패 - 다음 기동에서도 새로 생성합니다", e);
+        }
+    }
+
+    private boolean isH2(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        if ("H2".equals(product)) {
+            return true;
+        }
+        log.warn("초기 데이터 스냅샷은 H2에서만 지원합니다 (현재: {})", product);
+        return false;
+    }
+
+    private Path fileFor(Connection connection, String parameters) throws SQLException {
+        String key = parameters + '\n' + schemaOf(connection);
+        return directory.resolve("seed-" + sha256(key).substring(0, 16) + ".sql.gz");
+    }
+
+    private static String schemaOf(Connection connection) throws SQLException {
+        StringBuilder schema = new StringBuilder();
+        try (Statement statement = connection.createStatement()) {
+            appendRows(schema, statement, COLUMN_QUERY);
+            appendRows(schema, statement, SEQUENCE_QUERY);
+
+            // 이름 없는 제약 조건은 H2가 이름을 붙이므로 이름 대신 (테이블, 종류, 조건, 컬럼)을 정렬해 넣는다
+            Map<String, StringBuilder> constraints = new HashMap<>();
+            try (ResultSet rows = statement.executeQuery(CONSTRAINT_QUERY)) {
+                while (rows.next()) {
+                    String name = rows.getString(1);
+                    StringBuilder constraint = constraints.get(name);
+                    if (constraint == null) {
+                        constraint = new StringBuilder()
+                                .append(rows.getString(2)).append(':')
+                                .append(rows.getString(3)).append(':')
+                                .append(Objects.toString(rows.getString(5), ""));
+                        constraints.put(name, constraint);
+                    }
+                    if (rows.getString(4) != null) {
+                        constraint.append(',').append(rows.getString(4));
+                    }
+                }
+            }
+            constraints.values().stream()
+                    .map(StringBuilder::toString)
+                    .sorted()
+                    .forEach(constraint -> schema.append(constraint).append('\n'));
+        }
+        return schema.toString();
+    }
+
+    private static void appendRows(StringBuilder schema, Statement statement, String query) throws SQLException {
+        try (ResultSet rows = statement.executeQuery(query)) {
+            int columns = rows.getMetaData().getColumnCount();
+            while (rows.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    schema.append(i == 1 ? "" : ":").append(rows.getString(i));
+                }
+                schema.append('\n');
+            }
+        }
+    }
+
+    private static String quote(Path file) {
+        return "'" + file.toString().replace('\\', '/').replace("'", "''") + "'";
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.musinsa.course.service;
 
+import com.musinsa.course.dto.CursorPage;
 import com.musinsa.course.dto.StudentResponse;
 import com.musinsa.course.exception.StudentNotFoundException;
 import com.musinsa.course.repository.StudentRepository;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,10 +18,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class StudentService {
 
+    // keyset 페이지네이션 정렬 키와 커서 값 타입
+    private static final Map<String, Class<?>> KEY_TYPES = Map.of("id", Long.class, "studentNumber", String.class, "name", String.class, "grade", Integer.class);
+
     private final StudentRepository studentRepository;
+    private final KeysetCursors keysetCursors;
 
-    public StudentService(StudentRepository studentRepository) {
+    public StudentService(StudentRepository studentRepository, KeysetCursors keysetCursors) {
         this.studentRepository = studentRepository;
+        this.keysetCursors = keysetCursors;
     }
 
     public Page<StudentResponse> getStudents(Pageable pageable) {
@@ -23,9 +34,34 @@ public class StudentService {
                 .map(StudentResponse::new);
     }
 
+    /**
+     * 전체 건수 없이 다음 페이지 유무만 반환한다 (COUNT 쿼리 생략).
+     */
+    public Slice<StudentResponse> getStudentSlice(Pageable pageable) {
+        return studentRepository.findAllBy(pageable)
+                .map(StudentResponse::new);
+    }
+
+    /**
+     * keyset 페이지네이션. cursor가 없으면 sort 기준 첫 페이지, 있으면 커서에 담긴 정렬로 다음 페이지를 조회한다.
+     */
+    public CursorPage<StudentResponse> scrollStudents(Sort sort, String cursor, int size) {
+        KeysetCursors.Position position = keysetCursors.decode(cursor, sort, KEY_TYPES);
+        return keysetCursors.toPage(
+                studentRepository.findBy(position.getScrollPosition(), position.getSort(), Limit.of(size)),
+                position, StudentResponse::new);
+    }
+
     public StudentResponse getStudentById(Long id) {
         return studentRepository.findById(id)
                 .map(StudentResponse::new)
                 .orElseThrow(() -> new StudentNotFoundException(id));
     }
+
+    /**
+     * 누적 학점 컬럼이 수강신청 내역의 학점 합계와 다른 학생 ID 목록. 정상이라면 항상 비어 있다.
+     */
+    public List<Long> findCreditMismatches() {
+        return studentRepository.findIdsWithCreditMismatch();
+    }
 }
@@ -0,0 +1,86 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.TimetableMask;
+import com.musinsa.course.repository.EnrolledSlotView;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학생의 현재 수강 현황(수강 중인 강좌와 시간표 비트마스크).
+ * 수강신청 트랜잭션에서 한 번의 쿼리로 만들어 중복/시간 충돌 검증을 메모리에서 처리한다.
+ */
+public final class StudentTimetable {
+
+    private final Map<Long, CourseTimetable> courses;
+    private final TimetableMask mask;
+
+    private StudentTimetable(Map<Long, CourseTimetable> courses, TimetableMask mask) {
+        this.courses = courses;
+        this.mask = mask;
+    }
+
+    static StudentTimetable of(List<? extends EnrolledSlotView> rows, TimetableCache timetableCache) {
+        Map<Long, List<EnrolledSlotView>> rowsByCourse = new LinkedHashMap<>();
+        for (EnrolledSlotView row : rows) {
+            rowsByCourse.computeIfAbsent(row.getCourseId(), id -> new ArrayList<>()).add(row);
+        }
+
+        Map<Long, CourseTimetable> courses = new LinkedHashMap<>();
+        List<TimetableMask> masks = new ArrayList<>(rowsByCourse.size());
+        rowsByCourse.forEach((courseId, slots) -> {
+            CourseTimetable timetable = timetableCache.getOrCompile(courseId, slots);
+            courses.put(courseId, timetable);
+            masks.add(timetable.getMask());
+        });
+        return new StudentTimetable(Collections.unmodifiableMap(courses), TimetableMask.union(masks));
+    }
+
+    /**
+     * 강좌 하나를 더한 시간표. 일괄 신청에서 앞서 통과한 강좌를 이어지는 검증에 반영할 때 사용한다.
+     */
+    StudentTimetable plus(CourseTimetable course) {
+        Map<Long, CourseTimetable> added = new LinkedHashMap<>(courses);
+        added.put(course.getCourseId(), course);
+        return new StudentTimetable(Collections.unmodifiableMap(added), mask.or(course.getMask()));
+    }
+
+    /**
+     * 강좌 하나를 뺀 시간표. 강좌 교체에서 취소할 강좌를 제외하고 검증할 때 사용한다.
+     */
+    StudentTimetable minus(Long courseId) {
+        if (!courses.containsKey(courseId)) {
+            return this;
+        }
+        Map<Long, CourseTimetable> remaining = new LinkedHashMap<>(courses);
+        remaining.remove(courseId);
+        List<TimetableMask> masks = new ArrayList<>(remaining.size());
+        remaining.values().forEach(course -> masks.add(course.getMask()));
+        return new StudentTimetable(Collections.unmodifiableMap(remaining), TimetableMask.union(masks));
+    }
+
+    public boolean contains(Long courseId) {
+        return courses.containsKey(courseId);
+    }
+
+    public TimetableMask getMask() {
+        return mask;
+    }
+
+    /**
+     * 새 강좌와 시간이 겹치는 기존 강좌를 찾는다. 겹치지 않으면 null.
+     */
+    public CourseTimetable findConflict(CourseTimetable newCourse) {
+        if (!mask.intersects(newCourse.getMask())) {
+            return null;
+        }
+        for (CourseTimetable existing : courses.values()) {
+            if (existing.getMask().intersects(newCourse.getMask())) {
+                return existing;
+            }
+        }
+        return null;
+    }
+}
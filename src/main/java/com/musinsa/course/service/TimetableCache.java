@@ -0,0 +1,69 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.repository.CourseScheduleRepository;
+import com.musinsa.course.repository.ScheduleSlotView;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강좌별 시간표 비트마스크 캐시. 강좌 시간표는 운영 중 바뀌지 않으므로 강좌당 한 번만 컴파일한다.
+ */
+@Component
+public class TimetableCache {
+
+    private final ConcurrentHashMap<Long, CourseTimetable> timetables = new ConcurrentHashMap<>();
+
+    private final CourseScheduleRepository courseScheduleRepository;
+
+    public TimetableCache(CourseScheduleRepository courseScheduleRepository) {
+        this.courseScheduleRepository = courseScheduleRepository;
+    }
+
+    public CourseTimetable get(Long courseId) {
+        return getAll(List.of(courseId)).get(0);
+    }
+
+    /**
+     * 이미 조회해 둔 수업 시간으로 시간표를 얻는다. 캐시에 없을 때만 컴파일하며 추가 쿼리는 없다.
+     */
+    public CourseTimetable getOrCompile(Long courseId, List<? extends ScheduleSlotView> slots) {
+        CourseTimetable timetable = timetables.get(courseId);
+        if (timetable != null) {
+            return timetable;
+        }
+        return timetables.computeIfAbsent(courseId, id -> CourseTimetable.compile(id, slots));
+    }
+
+    /**
+     * 요청한 순서대로 시간표를 반환한다. 캐시에 없는 강좌는 한 번의 쿼리로 모아서 컴파일한다.
+     */
+    public List<CourseTimetable> getAll(Collection<Long> courseIds) {
+        List<Long> missing = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            if (!timetables.containsKey(courseId)) {
+                missing.add(courseId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, List<ScheduleSlotView>> slotsByCourse = courseScheduleRepository.findSlotsByCourseIdIn(missing)
+                    .stream()
+                    .collect(Collectors.groupingBy(ScheduleSlotView::getCourseId));
+            for (Long courseId : missing) {
+                timetables.putIfAbsent(courseId,
+                        CourseTimetable.compile(courseId, slotsByCourse.getOrDefault(courseId, List.of())));
+            }
+        }
+
+        List<CourseTimetable> result = new ArrayList<>(courseIds.size());
+        for (Long courseId : courseIds) {
+            result.add(timetables.get(courseId));
+        }
+        return result;
+    }
+}
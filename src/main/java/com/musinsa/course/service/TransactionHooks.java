@@ -0,0 +1,63 @@
+package com.musinsa.course.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 커밋/롤백 이후에 실행할 작업을 등록한다.
+ * 메모리 상태(좌석 카운터 등)를 DB 트랜잭션 결과와 맞추기 위해 사용한다.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 실행한다. 트랜잭션 밖에서 호출되면 즉시 실행한다.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋되지 못하고 끝나면 실행한다. 트랜잭션 밖에서 호출되면 아무것도 하지 않는다.
+     */
+    public static void afterRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋/롤백과 관계없이 끝나면 실행한다. 트랜잭션 밖에서 호출되면 즉시 실행한다.
+     */
+    public static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
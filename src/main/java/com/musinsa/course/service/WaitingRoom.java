@@ -0,0 +1,340 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.dto.AdmissionTicketResponse;
+import com.musinsa.course.exception.AdmissionRequiredException;
+import com.musinsa.course.exception.AdmissionTicketNotFoundException;
+import com.musinsa.course.exception.StudentNotFoundException;
+import com.musinsa.course.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수강신청 앞단의 가상 대기실.
+ *
+ * <p>학생은 강좌별 대기 번호표를 받고, 입장 처리기가 주기적으로 강좌마다 번호 순서대로 입장시킨다.
+ * 입장 속도는 두 가지로 제한한다.
+ * <ul>
+ *     <li>초당 입장 상한({@code admit-per-second})</li>
+ *     <li>입장했지만 아직 수강신청을 마치지 않은 인원 상한({@code max-in-flight}): 수강신청이 끝나야 다음 입장이 생기므로
+ *     입장 속도가 실제 DB 처리 속도를 따라간다</li>
+ * </ul>
+ * 대기 중인 요청은 스레드나 커넥션을 잡지 않고 번호표 객체로만 남으며, 클라이언트는 메모리만 조회하는 순번 API를 폴링한다.
+ * 입장 후 {@code claim-timeout-ms} 안에 사용하지 않은 번호표는 만료되어 자리를 돌려주고, 기다리기를 그만둔 클라이언트는
+ * 번호표를 반납해({@link #release}) 바로 자리를 돌려줄 수 있다. 포기한 번호표가 입장 자리를 오래 붙잡지 않도록
+ * 입장 확인 시간은 짧게 둔다. 끝난 번호표는 {@code admission-ttl-seconds} 동안 상태 조회용으로 남는다.
+ * 학생은 강좌마다 유효한(대기/입장) 번호표를 하나만 가지며, 다시 발급을 요청하면 그 번호표를 돌려준다.
+ */
+@Component
+public class WaitingRoom {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitingRoom.class);
+
+    // 처리량 지수 이동 평균 가중치 (틱마다)
+    private static final double EWMA_ALPHA = 0.2;
+
+    public enum TicketStatus {
+        WAITING, ADMITTED, USED, EXPIRED, RELEASED
+    }
+
+    private final ConcurrentHashMap<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CourseQueue> queues = new ConcurrentHashMap<>();
+    // 사용/만료된 번호표를 일정 시간 뒤 지우기 위한 큐 (끝난 순서)
+    private final Queue<Ticket> finished = new ConcurrentLinkedQueue<>();
+
+    private final CourseService courseService;
+    private final StudentRepository studentRepository;
+    private final boolean enabled;
+    private final double admitPerSecond;
+    private final int maxInFlight;
+    private final long admissionTtlNanos;
+    private final long claimTimeoutNanos;
+    private final long tickMillis;
+    private final ScheduledExecutorService admitter;
+
+    public WaitingRoom(CourseService courseService,
+                       StudentRepository studentRepository,
+                       @Value("${course.waiting-room.enabled:false}") boolean enabled,
+                       @Value("${course.waiting-room.admit-per-second:20}") double admitPerSecond,
+                       @Value("${course.waiting-room.max-in-flight:10}") int maxInFlight,
+                       @Value("${course.waiting-room.admission-ttl-seconds:30}") int admissionTtlSeconds,
+                       @Value("${course.waiting-room.claim-timeout-ms:5000}") long claimTimeoutMillis,
+                       @Value("${course.waiting-room.tick-ms:100}") long tickMillis) {
+        this.courseService = courseService;
+        this.studentRepository = studentRepository;
+        this.enabled = enabled;
+        this.admitPerSecond = admitPerSecond;
+        this.maxInFlight = maxInFlight;
+        this.admissionTtlNanos = TimeUnit.SECONDS.toNanos(admissionTtlSeconds);
+        this.claimTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(claimTimeoutMillis);
+        this.tickMillis = tickMillis;
+        this.admitter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waiting-room-admitter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            admitter.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        admitter.shutdownNow();
+    }
+
+    /**
+     * 수강신청 API가 입장 번호표를 요구하도록 설정되었는지 여부.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AdmissionTicketResponse issue(Long studentId, Long courseId) {
+        // 강좌 존재 여부는 카탈로그 스냅샷으로 확인 (없을 때만 DB 확인)
+        courseService.getCourseById(courseId);
+        if (!studentRepository.existsById(studentId)) {
+            throw new StudentNotFoundException(studentId);
+        }
+        CourseQueue queue = queues.computeIfAbsent(courseId, CourseQueue::new);
+        // 다시 요청해도 새로 줄을 세우지 않고 아직 유효한 번호표를 돌려준다 (반복 요청으로 대기열이 부풀지 않도록)
+        Ticket ticket = queue.holders.compute(studentId, (id, existing) -> {
+            if (existing != null && existing.isLive()) {
+                return existing;
+            }
+            Ticket created = new Ticket(UUID.randomUUID().toString(), studentId, courseId);
+            queue.enqueue(created);
+            tickets.put(created.id, created);
+            return created;
+        });
+        return toResponse(ticket, queue);
+    }
+
+    public AdmissionTicketResponse getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new AdmissionTicketNotFoundException(ticketId);
+        }
+        return toResponse(ticket, queues.get(ticket.courseId));
+    }
+
+    /**
+     * 입장한 번호표를 사용 처리한다. 번호표는 한 번만 쓸 수 있고 발급받은 학생/강좌에만 유효하다.
+     *
+     * @throws AdmissionRequiredException 번호표가 없거나, 아직 입장 전이거나, 이미 사용/만료된 경우
+     */
+    public void admit(String ticketId, Long studentId, Long courseId) {
+        Ticket ticket = ticketId == null ? null : tickets.get(ticketId);
+        if (ticket == null || !ticket.studentId.equals(studentId) || !ticket.courseId.equals(courseId)) {
+            throw new AdmissionRequiredException("대기실 입장 번호표가 필요합니다");
+        }
+        if (!ticket.status.compareAndSet(TicketStatus.ADMITTED.ordinal(), TicketStatus.USED.ordinal())) {
+            throw new AdmissionRequiredException(ticket.status() == TicketStatus.WAITING
+                    ? "아직 입장 순서가 아닙니다" : "이미 사용했거나 만료된 번호표입니다");
+        }
+    }
+
+    /**
+     * 입장한 요청의 수강신청이 끝났음을 알린다 (성공/실패 무관). 다음 입장 자리가 생긴다.
+     */
+    public void complete(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            return;
+        }
+        CourseQueue queue = queues.get(ticket.courseId);
+        if (queue != null) {
+            queue.inFlight.decrementAndGet();
+            queue.completed.increment();
+        }
+        finish(ticket);
+    }
+
+    /**
+     * 번호표를 반납한다. 대기 중이면 줄에서 빠지고, 입장한 뒤 아직 쓰지 않았으면 입장 자리를 바로 돌려준다.
+     * 이미 사용/만료/반납된 번호표는 그대로 둔다.
+     *
+     * @throws AdmissionTicketNotFoundException 번호표가 없는 경우
+     */
+    public void release(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new AdmissionTicketNotFoundException(ticketId);
+        }
+        if (ticket.status.compareAndSet(TicketStatus.WAITING.ordinal(), TicketStatus.RELEASED.ordinal())) {
+            // 대기열에서는 입장 처리기가 꺼낼 때 건너뛴다
+            finish(ticket);
+        } else if (ticket.status.compareAndSet(TicketStatus.ADMITTED.ordinal(), TicketStatus.RELEASED.ordinal())) {
+            CourseQueue queue = queues.get(ticket.courseId);
+            if (queue != null) {
+                queue.inFlight.decrementAndGet();
+            }
+            finish(ticket);
+        }
+    }
+
+    void tick() {
+        tick(System.nanoTime());
+    }
+
+    void tick(long now) {
+        try {
+            double seconds = tickMillis / 1000.0;
+            for (CourseQueue queue : queues.values()) {
+                queue.expireAdmitted(now);
+                queue.updateThroughput(seconds);
+                queue.admit(now, seconds);
+            }
+            purgeFinished(now);
+        } catch (RuntimeException e) {
+            log.error("대기실 입장 처리 실패", e);
+        }
+    }
+
+    private void purgeFinished(long now) {
+        // 끝난 번호표도 상태 조회를 위해 admission-ttl-seconds 동안 남겨 둔다
+        Ticket head;
+        while ((head = finished.peek()) != null && now - head.finishedAt > admissionTtlNanos) {
+            finished.poll();
+            tickets.remove(head.id);
+        }
+    }
+
+    private void finish(Ticket ticket) {
+        ticket.finishedAt = System.nanoTime();
+        finished.add(ticket);
+        CourseQueue queue = queues.get(ticket.courseId);
+        if (queue != null) {
+            queue.holders.remove(ticket.studentId, ticket);
+        }
+    }
+
+    private AdmissionTicketResponse toResponse(Ticket ticket, CourseQueue queue) {
+        TicketStatus status = ticket.status();
+        Long position = null;
+        Long estimatedWaitSeconds = null;
+        if (status == TicketStatus.WAITING && queue != null) {
+            long ahead = Math.max(1, ticket.number - queue.admittedCount.get());
+            position = ahead;
+            // 측정된 처리량이 아직 없으면 입장 상한 기준으로 추정
+            double rate = queue.throughput > 0 ? Math.min(queue.throughput, admitPerSecond) : admitPerSecond;
+            estimatedWaitSeconds = (long) Math.ceil(ahead / rate);
+        }
+        return new AdmissionTicketResponse(ticket.id, ticket.courseId, status.name(), position, estimatedWaitSeconds);
+    }
+
+    private final class CourseQueue {
+
+        private final Long courseId;
+        private final AtomicLong issued = new AtomicLong();
+        // 입장 처리기 스레드만 변경 (조회는 다른 스레드에서도)
+        private final AtomicLong admittedCount = new AtomicLong();
+        private final Queue<Ticket> waiting = new ConcurrentLinkedQueue<>();
+        private final Queue<Ticket> admitted = new ConcurrentLinkedQueue<>();
+        // 학생별 유효한 번호표 (사용/만료되면 제거)
+        private final ConcurrentHashMap<Long, Ticket> holders = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private volatile double throughput;
+        private double credit;
+
+        private CourseQueue(Long courseId) {
+            this.courseId = courseId;
+        }
+
+        private synchronized void enqueue(Ticket ticket) {
+            // 번호 부여와 대기열 삽입 순서를 맞추기 위해 강좌 단위로만 동기화
+            ticket.number = issued.incrementAndGet();
+            waiting.add(ticket);
+        }
+
+        private void admit(long now, double seconds) {
+            credit = Math.min(credit + admitPerSecond * seconds, Math.max(1, admitPerSecond));
+            while (credit >= 1 && inFlight.get() < maxInFlight) {
+                Ticket ticket = waiting.poll();
+                if (ticket == null) {
+                    break;
+                }
+                admittedCount.set(ticket.number);
+                ticket.admittedAt = now;
+                if (!ticket.status.compareAndSet(TicketStatus.WAITING.ordinal(), TicketStatus.ADMITTED.ordinal())) {
+                    // 기다리다 반납된 번호표는 입장 자리를 쓰지 않는다
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                admitted.add(ticket);
+                credit -= 1;
+            }
+            if (waiting.isEmpty()) {
+                // 대기자가 없을 때 쌓인 입장 권한으로 다음 오픈 때 한꺼번에 몰리지 않게 한다
+                credit = Math.min(credit, 1);
+            }
+        }
+
+        private void expireAdmitted(long now) {
+            Ticket head;
+            while ((head = admitted.peek()) != null) {
+                if (head.status() != TicketStatus.ADMITTED) {
+                    // 이미 사용/반납됨 (complete/release에서 자리 반환)
+                    admitted.poll();
+                } else if (now - head.admittedAt > claimTimeoutNanos) {
+                    admitted.poll();
+                    if (head.status.compareAndSet(TicketStatus.ADMITTED.ordinal(), TicketStatus.EXPIRED.ordinal())) {
+                        inFlight.decrementAndGet();
+                        finish(head);
+                    }
+                } else {
+                    break;
+                }
+            }
+        }
+
+        private void updateThroughput(double seconds) {
+            double current = completed.sumThenReset() / seconds;
+            throughput = throughput == 0 ? current : throughput + EWMA_ALPHA * (current - throughput);
+        }
+    }
+
+    private static final class Ticket {
+
+        private final String id;
+        private final Long studentId;
+        private final Long courseId;
+        private final AtomicInteger status = new AtomicInteger(TicketStatus.WAITING.ordinal());
+        private long number;
+        private volatile long admittedAt;
+        private volatile long finishedAt;
+
+        private Ticket(String id, Long studentId, Long courseId) {
+            this.id = id;
+            this.studentId = studentId;
+            this.courseId = courseId;
+        }
+
+        private TicketStatus status() {
+            return TicketStatus.values()[status.get()];
+        }
+
+        private boolean isLive() {
+            TicketStatus current = status();
+            return current == TicketStatus.WAITING || current == TicketStatus.ADMITTED;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.WaitlistEntry;
+import com.musinsa.course.domain.WaitlistStatus;
+import com.musinsa.course.exception.CapacityExceededException;
+import com.musinsa.course.exception.CreditLimitExceededException;
+import com.musinsa.course.exception.DuplicateEnrollmentException;
+import com.musinsa.course.exception.StudentNotFoundException;
+import com.musinsa.course.exception.TimeConflictException;
+import com.musinsa.course.repository.WaitlistRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 수강취소가 커밋되면 해당 강좌의 대기자를 순서대로 수강신청시키는 비동기 승격기.
+ *
+ * <p>승격은 대기 행 락 → {@link EnrollmentService#enroll} 순서로 한 트랜잭션에서 처리하므로
+ * 정원/학점/시간 충돌 규칙이 일반 수강신청과 똑같이 적용된다. 규칙에 걸린 대기자는 사유와 함께 건너뛰고 다음 대기자로 넘어간다.
+ * 같은 강좌의 승격 요청은 하나의 작업으로 합쳐 처리한다.
+ *
+ * <p>대기자가 있는 동안 빈자리는 직접 신청에 내주지 않으므로({@link EnrollmentService#enroll}) 대기 순서대로 채워진다.
+ * 승격은 메모리 좌석 카운터를 거치지 않고 DB 정원으로만 판단하므로, 거절될 직접 신청이 카운터를 잠깐 쥐고 있어도 빈자리를 놓치지 않는다.
+ * 승격 스레드의 시도는 사용자 요청이 아니므로 {@link EnrollmentMetrics}에 기록하지 않는다.
+ * 락 대기 시간 초과 같은 예상하지 못한 실패가 나면 {@code retry-delay-ms} 뒤에 그 강좌의 승격을 다시 시도한다.
+ */
+@Component
+public class WaitlistPromoter {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistPromoter.class);
+
+    private final ConcurrentHashMap<Long, CourseLane> lanes = new ConcurrentHashMap<>();
+
+    private final WaitlistRepository waitlistRepository;
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService promoters;
+    private final long retryDelayMillis;
+
+    public WaitlistPromoter(WaitlistRepository waitlistRepository,
+                            EnrollmentService enrollmentService,
+                            EnrollmentMetrics metrics,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${course.waitlist.promoter-threads:2}") int promoterThreads,
+                            @Value("${course.waitlist.retry-delay-ms:500}") long retryDelayMillis) {
+        this.waitlistRepository = waitlistRepository;
+        this.enrollmentService = enrollmentService;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retryDelayMillis = retryDelayMillis;
+        AtomicInteger sequence = new AtomicInteger();
+        this.promoters = Executors.newScheduledThreadPool(promoterThreads, runnable -> {
+            Thread thread = new Thread(runnable, "waitlist-promoter-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @TransactionalEventListener
+    public void onSeatReleased(SeatReleasedEvent event) {
+        CourseLane lane = lanes.computeIfAbsent(event.getCourseId(), CourseLane::new);
+        lane.signals.incrementAndGet();
+        schedule(lane);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        promoters.shutdownNow();
+    }
+
+    private void schedule(CourseLane lane) {
+        if (lane.running.compareAndSet(false, true)) {
+            promoters.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(CourseLane lane) {
+        boolean failed = false;
+        // 승격 시도는 사용자 요청이 아니므로 거절/단계 지표에 넣지 않는다
+        metrics.suppressOnCurrentThread();
+        try {
+            while (lane.signals.getAndSet(0) > 0) {
+                promoteWhileSeatsFree(lane.courseId);
+            }
+        } catch (RuntimeException e) {
+            // 남은 대기자가 다음 수강취소까지 묶여 있지 않도록 잠시 뒤 다시 시도
+            log.warn("대기자 승격 실패, {}ms 뒤 재시도 - 강좌 ID: {}", retryDelayMillis, lane.courseId, e);
+            lane.signals.incrementAndGet();
+            failed = true;
+        } finally {
+            metrics.resumeOnCurrentThread();
+            lane.running.set(false);
+        }
+        if (failed) {
+            promoters.schedule(() -> schedule(lane), retryDelayMillis, TimeUnit.MILLISECONDS);
+        } else if (lane.signals.get() > 0) {
+            // 플래그를 내리기 직전에 들어온 요청을 놓치지 않도록 다시 확인
+            schedule(lane);
+        }
+    }
+
+    private void promoteWhileSeatsFree(Long courseId) {
+        while (true) {
+            Optional<Long> next = waitlistRepository
+                    .findFirstByCourseIdAndStatusOrderByIdAsc(courseId, WaitlistStatus.WAITING)
+                    .map(WaitlistEntry::getId);
+            if (next.isEmpty()) {
+                return;
+            }
+            Long entryId = next.get();
+            try {
+                transactionTemplate.executeWithoutResult(status -> promote(entryId, courseId));
+            } catch (CapacityExceededException e) {
+                // 강좌 락 아래의 DB 정원이 찼음 (교체 등으로 채워짐), 다음 취소 때 다시 시도
+                return;
+            } catch (StudentNotFoundException | DuplicateEnrollmentException
+                     | CreditLimitExceededException | TimeConflictException e) {
+                transactionTemplate.executeWithoutResult(status -> skip(entryId, e.getMessage()));
+            }
+        }
+    }
+
+    private void promote(Long entryId, Long courseId) {
+        WaitlistEntry entry = waitlistRepository.findByIdWithLock(entryId).orElse(null);
+        if (entry == null || !entry.isWaiting()) {
+            // 그 사이 학생이 대기를 취소함
+            return;
+        }
+        enrollmentService.enrollFromWaitlist(entry.getStudent().getId(), courseId);
+        entry.promote();
+        log.info("대기자 승격 - 대기 ID: {}, 강좌 ID: {}", entryId, courseId);
+    }
+
+    private void skip(Long entryId, String reason) {
+        waitlistRepository.findByIdWithLock(entryId)
+                .filter(WaitlistEntry::isWaiting)
+                .ifPresent(entry -> {
+                    entry.skip(reason);
+                    log.info("대기자 건너뜀 - 대기 ID: {}, 사유: {}", entryId, reason);
+                });
+    }
+
+    private static final class CourseLane {
+
+        private final Long courseId;
+        private final AtomicInteger signals = new AtomicInteger();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private CourseLane(Long courseId) {
+            this.courseId = courseId;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.domain.WaitlistEntry;
+import com.musinsa.course.domain.WaitlistStatus;
+import com.musinsa.course.dto.WaitlistResponse;
+import com.musinsa.course.exception.CourseNotFoundException;
+import com.musinsa.course.exception.DuplicateEnrollmentException;
+import com.musinsa.course.exception.DuplicateWaitlistException;
+import com.musinsa.course.exception.StudentNotFoundException;
+import com.musinsa.course.exception.WaitlistEntryNotFoundException;
+import com.musinsa.course.exception.WaitlistNotAllowedException;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.EnrollmentRepository;
+import com.musinsa.course.repository.StudentRepository;
+import com.musinsa.course.repository.WaitlistRepository;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 정원이 찬 강좌의 대기열 등록/조회/취소. 빈자리 승격은 {@link WaitlistPromoter}가 비동기로 처리한다.
+ */
+@Service
+public class WaitlistService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final WaitlistRepository waitlistRepository;
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseContentionTracker contentionTracker;
+
+    public WaitlistService(WaitlistRepository waitlistRepository,
+                           CourseRepository courseRepository,
+                           StudentRepository studentRepository,
+                           EnrollmentRepository enrollmentRepository,
+                           CourseContentionTracker contentionTracker) {
+        this.waitlistRepository = waitlistRepository;
+        this.courseRepository = courseRepository;
+        this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.contentionTracker = contentionTracker;
+    }
+
+    @Transactional
+    public WaitlistResponse join(Long studentId, Long courseId) {
+        // 정원 확인과 중복 대기 검사가 수강신청/승격과 어긋나지 않도록 강좌 락을 잡는다
+        Course course = contentionTracker.lock(courseId, () -> courseRepository.findByIdWithLock(courseId))
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+        // 빈자리가 있어도 앞선 대기자가 승격을 기다리는 중이면 그 뒤에 등록할 수 있다
+        if (!course.isFull()
+                && !waitlistRepository.existsByCourseIdAndStatus(courseId, WaitlistStatus.WAITING)) {
+            throw new WaitlistNotAllowedException(course.getName());
+        }
+
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        if (enrollmentRepository.existsByStudentIdAndCourseId(studentId, courseId)) {
+            throw new DuplicateEnrollmentException(course.getName());
+        }
+        if (waitlistRepository.existsByStudentIdAndCourseIdAndStatus(studentId, courseId, WaitlistStatus.WAITING)) {
+            throw new DuplicateWaitlistException(course.getName());
+        }
+
+        WaitlistEntry entry = waitlistRepository.save(new WaitlistEntry(student, course));
+        log.info("대기 등록 - 학생: {} ({}), 강좌: {} ({})",
+                student.getName(), student.getStudentNumber(), course.getName(), course.getCourseCode());
+        return toResponse(entry);
+    }
+
+    @Transactional(readOnly = true)
+    public WaitlistResponse getEntry(Long entryId) {
+        WaitlistEntry entry = waitlistRepository.findByIdWithCourse(entryId)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException(entryId));
+        return toResponse(entry);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WaitlistResponse> getStudentWaitlist(Long studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new StudentNotFoundException(studentId);
+        }
+        return waitlistRepository.findByStudentIdWithCourse(studentId).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public WaitlistResponse leave(Long entryId) {
+        // 승격과 동시에 취소되지 않도록 대기 행에 락
+        WaitlistEntry entry = waitlistRepository.findByIdWithLock(entryId)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException(entryId));
+        if (entry.isWaiting()) {
+            entry.cancel();
+        }
+        return toResponse(entry);
+    }
+
+    private WaitlistResponse toResponse(WaitlistEntry entry) {
+        Long position = entry.isWaiting()
+                ? waitlistRepository.countByCourseIdAndStatusAndIdLessThan(
+                        entry.getCourse().getId(), WaitlistStatus.WAITING, entry.getId()) + 1
+                : null;
+        return new WaitlistResponse(entry, position);
+    }
+}
@@ -0,0 +1,147 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 초기 데이터 생성 후 readiness 전에 실제 요청 경로를 미리 실행해 둔다.
+ *
+ * <p>수강신청 → 중복 신청(거절) → 신청 가능 강좌 조회 → 강좌 교체 → 수강취소를 반복하되, 매 회차를 롤백 전용 트랜잭션 안에서
+ * 실행해 DB에는 아무것도 남지 않는다. 좌석 카운터는 롤백 시 반환되고, 카탈로그 카운터/대기자 승격은 커밋 후에만 동작하므로
+ * 바뀌지 않는다. 이 과정에서 JIT 컴파일, Hibernate 쿼리 계획 캐시, 커넥션, 시간표 마스크/좌석 카운터가 채워지고,
+ * 강좌 목록 스냅샷과 직렬화된 응답, 검색 색인도 만들어 둔다.
+ *
+ * <p>워밍업 스레드의 단계별 지표와 락 경합은 기록하지 않는다 (같은 시각에 들어온 실제 요청은 그대로 기록).
+ * 소요 시간은 {@code startup.warmup}으로 남긴다.
+ */
+@Component
+public class WarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUp.class);
+
+    private static final int STUDENTS = 50;
+    private static final List<String> SEARCH_QUERIES = List.of("자료", "공학", "ㄱㅇ", "CS");
+
+    private final EnrollmentService enrollmentService;
+    private final CourseService courseService;
+    private final CatalogResponseCache catalogResponseCache;
+    private final StudentRepository studentRepository;
+    private final EnrollmentMetrics metrics;
+    private final CourseContentionTracker contentionTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer duration;
+    private final boolean enabled;
+    private final int iterations;
+
+    public WarmUp(EnrollmentService enrollmentService,
+                  CourseService courseService,
+                  CatalogResponseCache catalogResponseCache,
+                  StudentRepository studentRepository,
+                  EnrollmentMetrics metrics,
+                  CourseContentionTracker contentionTracker,
+                  PlatformTransactionManager transactionManager,
+                  MeterRegistry registry,
+                  @Value("${course.warm-up.enabled:false}") boolean enabled,
+                  @Value("${course.warm-up.iterations:200}") int iterations) {
+        this.enrollmentService = enrollmentService;
+        this.courseService = courseService;
+        this.catalogResponseCache = catalogResponseCache;
+        this.studentRepository = studentRepository;
+        this.metrics = metrics;
+        this.contentionTracker = contentionTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.duration = Timer.builder("startup.warmup")
+                .description("기동 워밍업 소요 시간")
+                .register(registry);
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    /**
+     * 워밍업을 실행한다. 설정이 꺼져 있으면 아무것도 하지 않는다.
+     */
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        log.info("워밍업 시작 - {}회 (이어지는 수강신청/취소 로그는 모두 롤백됨)", iterations);
+
+        // 기동 중에도 Tomcat은 요청을 받으므로 기록은 이 스레드에서만 끈다
+        metrics.suppressOnCurrentThread();
+        contentionTracker.suppressOnCurrentThread();
+        int failures = 0;
+        try {
+            List<CourseResponse> courses = warmCatalog();
+            List<Long> studentIds = studentRepository.findAllBy(PageRequest.of(0, STUDENTS)).getContent().stream()
+                    .map(Student::getId)
+                    .toList();
+            if (studentIds.isEmpty() || courses.size() < 2) {
+                log.warn("워밍업 생략 - 학생 또는 강좌가 부족합니다");
+                return;
+            }
+
+            for (int i = 0; i < iterations; i++) {
+                Long studentId = studentIds.get(i % studentIds.size());
+                Long courseId = courses.get(i % courses.size()).getId();
+                Long otherCourseId = courses.get((i + courses.size() / 2) % courses.size()).getId();
+                try {
+                    exercise(studentId, courseId, otherCourseId, i);
+                } catch (RuntimeException e) {
+                    // 마감 등으로 실패해도 다음 회차를 계속한다 (트랜잭션은 이미 롤백됨)
+                    failures++;
+                    log.debug("워밍업 회차 실패 - {}", e.getMessage());
+                }
+            }
+        } finally {
+            metrics.resumeOnCurrentThread();
+            contentionTracker.resumeOnCurrentThread();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        duration.record(elapsed);
+        log.info("워밍업 완료 - {}회 (실패 {}회), {}ms", iterations, failures, elapsed.toMillis());
+    }
+
+    /**
+     * 강좌 목록 스냅샷, 학과별/단건 직렬화 응답, 검색 색인을 만든다.
+     */
+    private List<CourseResponse> warmCatalog() {
+        List<CourseResponse> courses = courseService.getAllCourses();
+        catalogResponseCache.getAll();
+        courses.stream().map(CourseResponse::getDepartment).distinct().forEach(catalogResponseCache::getByDepartment);
+        courses.forEach(course -> catalogResponseCache.getCourse(course.getId()));
+        SEARCH_QUERIES.forEach(query -> courseService.searchCourses(query, null, null, null, 20));
+        return courses;
+    }
+
+    private void exercise(Long studentId, Long courseId, Long otherCourseId, int iteration) {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            EnrollmentResponse enrollment = enrollmentService.enroll(studentId, courseId);
+            try {
+                enrollmentService.enroll(studentId, courseId);
+            } catch (RuntimeException expected) {
+                // 중복 신청 거절 경로
+            }
+            enrollmentService.getStudentEnrollments(studentId);
+            enrollmentService.findAvailableCourses(studentId);
+            EnrollmentResponse swapped = enrollmentService.swap(enrollment.getId(), otherCourseId);
+            enrollmentService.cancel(swapped.getId());
+            courseService.searchCourses(SEARCH_QUERIES.get(iteration % SEARCH_QUERIES.size()), null, null, null, 20);
+        });
+    }
+}
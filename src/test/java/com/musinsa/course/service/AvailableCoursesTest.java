@@ -0,0 +1,48 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.AvailableCoursesResponse;
+import com.musinsa.course.dto.CourseResponse;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class AvailableCoursesTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = createStudent("202400001", "홍길동");
+    }
+
+    @Test
+    void 신청_가능한_강좌는_정원_시간_충돌_학점_규칙을_모두_통과한_강좌만_반환한다() {
+        Course enrolled = createCourse("자료구조", "CS130", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        createCourse("알고리즘", "CS131", 3, 30, DayOfWeek.MON, LocalTime.of(10, 0));
+        createCourse("운영체제", "CS132", 3, 0, DayOfWeek.TUE, LocalTime.of(9, 0));
+        createCourse("캡스톤디자인", "CS133", 16, 30, DayOfWeek.WED, LocalTime.of(9, 0));
+        Course fits = createCourse("네트워크", "CS134", 3, 30, DayOfWeek.THU, LocalTime.of(9, 0));
+        enrollmentService.enroll(student.getId(), enrolled.getId());
+
+        AvailableCoursesResponse available = enrollmentService.findAvailableCourses(student.getId());
+
+        assertThat(available.getRemainingCredits()).isEqualTo(15);
+        assertThat(available.getCourses()).extracting(CourseResponse::getId).containsExactly(fits.getId());
+
+        enrollmentService.enroll(student.getId(), fits.getId());
+        assertThat(enrollmentService.findAvailableCourses(student.getId()).getCourses()).isEmpty();
+    }
+}
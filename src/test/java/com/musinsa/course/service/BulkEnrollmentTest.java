@@ -0,0 +1,94 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.BulkEnrollmentMode;
+import com.musinsa.course.dto.BulkEnrollmentResponse;
+import com.musinsa.course.dto.BulkEnrollmentResult;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class BulkEnrollmentTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = createStudent("202400001", "홍길동");
+    }
+
+    @Test
+    void 일괄_신청_BEST_EFFORT는_앞서_통과한_강좌까지_누적해_검증하고_통과한_강좌만_신청한다() {
+        Course course1 = createCourse("자료구조", "CS100", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course course2 = createCourse("운영체제", "CS101", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course course3 = createCourse("알고리즘", "CS102", 3, 0, DayOfWeek.TUE, LocalTime.of(9, 0));
+        Course course4 = createCourse("네트워크", "CS103", 3, 30, DayOfWeek.WED, LocalTime.of(9, 0));
+
+        BulkEnrollmentResponse response = enrollmentService.enrollAll(student.getId(),
+                List.of(course4.getId(), course1.getId(), course2.getId(), course3.getId(), course1.getId()),
+                BulkEnrollmentMode.BEST_EFFORT);
+
+        List<BulkEnrollmentResult> results = response.getResults();
+        assertThat(results).extracting(BulkEnrollmentResult::getCourseId)
+                .containsExactly(course4.getId(), course1.getId(), course2.getId(), course3.getId());
+        assertThat(results).extracting(BulkEnrollmentResult::getStatus).containsExactly(
+                BulkEnrollmentResult.Status.ENROLLED, BulkEnrollmentResult.Status.ENROLLED,
+                BulkEnrollmentResult.Status.REJECTED, BulkEnrollmentResult.Status.REJECTED);
+        assertThat(results.get(2).getCode()).isEqualTo("TIME_CONFLICT");
+        assertThat(results.get(3).getCode()).isEqualTo("CAPACITY_EXCEEDED");
+        assertThat(response.getEnrolledCount()).isEqualTo(2);
+
+        assertThat(studentRepository.findById(student.getId()).orElseThrow().getEnrolledCredits()).isEqualTo(6);
+        assertThat(courseService.getCourseById(course1.getId()).getEnrolled()).isEqualTo(1);
+        assertThat(courseRepository.findById(course2.getId()).orElseThrow().getEnrolled()).isZero();
+    }
+
+    @Test
+    void 일괄_신청_ALL_OR_NOTHING은_하나라도_거절되면_아무것도_신청하지_않고_좌석을_반환한다() {
+        Course lastSeat = createCourse("자료구조", "CS104", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course conflicting = createCourse("운영체제", "CS105", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        BulkEnrollmentResponse response = enrollmentService.enrollAll(student.getId(),
+                List.of(lastSeat.getId(), conflicting.getId()), BulkEnrollmentMode.ALL_OR_NOTHING);
+
+        assertThat(response.getResults()).extracting(BulkEnrollmentResult::getStatus).containsExactly(
+                BulkEnrollmentResult.Status.NOT_APPLIED, BulkEnrollmentResult.Status.REJECTED);
+        assertThat(response.getEnrolledCount()).isZero();
+        assertThat(enrollmentRepository.count()).isZero();
+        assertThat(studentRepository.findById(student.getId()).orElseThrow().getEnrolledCredits()).isZero();
+
+        // 선점했던 마지막 좌석은 다른 학생이 신청할 수 있어야 한다
+        Student other = createStudent("202400004", "박민수");
+        assertThat(enrollmentService.enroll(other.getId(), lastSeat.getId())).isNotNull();
+    }
+
+    @Test
+    void 일괄_신청의_거절_사유_코드는_단건_API_오류_코드와_같다() {
+        Course full = createCourse("자료구조", "CS106", 3, 0, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course big = createCourse("캡스톤디자인", "CS107", 19, 30, DayOfWeek.TUE, LocalTime.of(9, 0));
+        long missing = 999_999L;
+
+        BulkEnrollmentResponse response = enrollmentService.enrollAll(student.getId(),
+                List.of(full.getId(), big.getId(), missing), BulkEnrollmentMode.BEST_EFFORT);
+
+        // 코드는 예외 타입에 한 번만 정의되므로 GlobalExceptionHandler 응답과 같고 비어 있지 않다
+        assertThat(response.getResults()).extracting(BulkEnrollmentResult::getCode)
+                .containsExactly("CAPACITY_EXCEEDED", "CREDIT_LIMIT_EXCEEDED", "COURSE_NOT_FOUND");
+    }
+}
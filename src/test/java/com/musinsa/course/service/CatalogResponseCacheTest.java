@@ -0,0 +1,114 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class CatalogResponseCacheTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private MockMvc mockMvc;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = createStudent("202400001", "홍길동");
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void 직렬화된_강좌_응답은_카탈로그가_바뀔_때만_다시_만든다() {
+        Course course = createCourse("자료구조", "CS094", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        CatalogResponseCache.Payload first = catalogResponseCache.getAll();
+        assertThat(catalogResponseCache.getAll()).isSameAs(first);
+
+        enrollmentService.enroll(student.getId(), course.getId());
+        CatalogResponseCache.Payload changed = catalogResponseCache.getAll();
+        assertThat(changed.getEtag()).isNotEqualTo(first.getEtag());
+        assertThat(new String(changed.getBody(), StandardCharsets.UTF_8))
+                .contains("\"enrolled\":1");
+    }
+
+    @Test
+    void 다른_강좌가_신청되어도_내용이_같은_강좌는_304를_돌려준다() throws Exception {
+        Course polled = createCourse("자료구조", "CS095", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course other = createCourse("알고리즘", "CS096", 3, 30, DayOfWeek.TUE, LocalTime.of(9, 0));
+
+        String etag = mockMvc.perform(get("/courses/{id}", polled.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        enrollmentService.enroll(student.getId(), other.getId());
+        mockMvc.perform(get("/courses/{id}", polled.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        enrollmentService.enroll(student.getId(), polled.getId());
+        String changed = mockMvc.perform(get("/courses/{id}", polled.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    void 동시에_다시_만들어도_같은_응답을_받고_데이터는_응답_래퍼_안에_그대로_들어간다() throws Exception {
+        Course course = createCourse("자료구조", "CS097", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        catalogResponseCache.getAll();
+        enrollmentService.enroll(student.getId(), course.getId());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CatalogResponseCache.Payload>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return catalogResponseCache.getAll();
+            }));
+        }
+        start.countDown();
+        Set<String> etags = new HashSet<>();
+        for (Future<CatalogResponseCache.Payload> result : results) {
+            etags.add(result.get(5, TimeUnit.SECONDS).getEtag());
+        }
+        executor.shutdown();
+
+        assertThat(etags).hasSize(1);
+        String body = new String(catalogResponseCache.getAll().getBody(), StandardCharsets.UTF_8);
+        assertThat(body).contains("\"success\":true", "\"data\":[{", "\"courseCode\":\"CS097\"", "\"timestamp\":");
+    }
+}
@@ -0,0 +1,10 @@
+package com.musinsa.course.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 조건부 UPDATE 좌석 확보 전략으로 {@link EnrollmentConcurrencyTest}의 시나리오를 그대로 실행한다.
+ */
+@SpringBootTest(properties = "course.enrollment.seat-acquisition=conditional-update")
+class ConditionalUpdateConcurrencyTest extends EnrollmentConcurrencyTest {
+}
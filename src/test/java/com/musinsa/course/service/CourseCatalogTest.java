@@ -0,0 +1,79 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.EnrollmentResponse;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = "course.catalog.reconcile-seconds=0")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class CourseCatalogTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private CourseCatalog courseCatalog;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = createStudent("202400001", "홍길동");
+    }
+
+    @Test
+    void 강좌_목록_스냅샷은_커밋된_신청과_취소를_반영한다() {
+        Course course = createCourse("자료구조", "CS093", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        assertThat(courseService.getAllCourses()).hasSize(1);
+        assertThat(courseService.getAllCourses().get(0).getEnrolled()).isZero();
+
+        EnrollmentResponse enrollment = enrollmentService.enroll(student.getId(), course.getId());
+        assertThat(courseService.getCoursesByDepartment("컴퓨터공학과").get(0).getEnrolled()).isEqualTo(1);
+        assertThat(courseService.getCourseById(course.getId()).getEnrolled()).isEqualTo(1);
+
+        enrollmentService.cancel(enrollment.getId());
+        assertThat(courseService.getAllCourses().get(0).getEnrolled()).isZero();
+    }
+
+    @Test
+    void 카운터가_DB와_어긋나면_보정에서_DB_값으로_맞춘다() {
+        Course course = createCourse("자료구조", "CS094", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        enrollmentService.enroll(student.getId(), course.getId());
+        assertThat(courseService.getCourseById(course.getId()).getEnrolled()).isEqualTo(1);
+
+        // 스냅샷 로드와 커밋이 겹쳐 반영이 빠진 상황: 카운터를 거치지 않고 DB만 바뀜
+        Course stored = courseRepository.findById(course.getId()).orElseThrow();
+        stored.incrementEnrolled();
+        courseRepository.save(stored);
+        assertThat(courseService.getCourseById(course.getId()).getEnrolled()).isEqualTo(1);
+
+        long version = courseCatalog.getVersion();
+        assertThat(courseCatalog.reconcile()).isEqualTo(1);
+        assertThat(courseService.getCourseById(course.getId()).getEnrolled()).isEqualTo(2);
+        assertThat(courseService.getAllCourses().get(0).getEnrolled()).isEqualTo(2);
+        assertThat(courseCatalog.getVersion()).isGreaterThan(version);
+
+        // 이미 맞으면 바꾸지 않는다
+        assertThat(courseCatalog.reconcile()).isZero();
+    }
+
+    @Test
+    void 스냅샷에_없는_학과는_빈_목록을_돌려준다() {
+        createCourse("자료구조", "CS095", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        assertThat(courseService.getCoursesByDepartment("컴퓨터공학과")).hasSize(1);
+        assertThat(courseService.getCoursesByDepartment("없는학과")).isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.dto.HotCourseResponse;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class CourseContentionTrackerTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private CourseContentionTracker contentionTracker;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = createStudent("202400001", "홍길동");
+    }
+
+    @Test
+    void 강좌_락_경합_순위에_획득_횟수와_보유_시간이_쌓인다() {
+        Course course = createCourse("자료구조", "CS097", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        EnrollmentResponse enrollment = enrollmentService.enroll(student.getId(), course.getId());
+        enrollmentService.cancel(enrollment.getId());
+
+        List<HotCourseResponse> hottest = contentionTracker.getHottest(10);
+        assertThat(hottest).hasSize(1);
+        assertThat(hottest.get(0).getCourseId()).isEqualTo(course.getId());
+        assertThat(hottest.get(0).getAcquisitions()).isEqualTo(2);
+        assertThat(hottest.get(0).getFailures()).isZero();
+        assertThat(hottest.get(0).getWaiting()).isZero();
+        assertThat(hottest.get(0).getAvgHoldMs()).isPositive();
+    }
+
+    @Test
+    void 락_획득에_실패해도_기다린_시간과_실패_횟수가_남는다() {
+        Course course = createCourse("자료구조", "CS098", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        assertThatThrownBy(() -> contentionTracker.lock(course.getId(), () -> {
+            LockSupport.parkNanos(2_000_000);
+            throw new PessimisticLockingFailureException("lock timeout");
+        })).isInstanceOf(PessimisticLockingFailureException.class);
+
+        List<HotCourseResponse> hottest = contentionTracker.getHottest(10);
+        assertThat(hottest).hasSize(1);
+        assertThat(hottest.get(0).getCourseId()).isEqualTo(course.getId());
+        assertThat(hottest.get(0).getAcquisitions()).isZero();
+        assertThat(hottest.get(0).getFailures()).isEqualTo(1);
+        assertThat(hottest.get(0).getWaiting()).isZero();
+        assertThat(hottest.get(0).getMaxWaitMs()).isGreaterThanOrEqualTo(2.0);
+        assertThat(hottest.get(0).getTotalWaitMs()).isGreaterThanOrEqualTo(2.0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Department;
+import com.musinsa.course.domain.Professor;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.dto.CourseSearchResponse;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class CourseSearchTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Department math;
+    private Professor kim;
+    private Professor lee;
+
+    @BeforeEach
+    void setUp() {
+        math = departmentRepository.save(new Department("수학과"));
+        kim = professorRepository.save(new Professor("김민준", dept));
+        lee = professorRepository.save(new Professor("이서연", math));
+    }
+
+    @Test
+    void 강좌명_부분_일치와_초성과_강좌코드와_교수명으로_검색한다() {
+        createCourse("자료구조 기초", "CS101", 3, 30, dept, kim, DayOfWeek.MON, LocalTime.of(9, 0));
+        createCourse("자료구조 심화", "CS201", 3, 30, dept, kim, DayOfWeek.TUE, LocalTime.of(9, 0));
+        createCourse("선형대수학 심화", "MA201", 2, 30, math, lee, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        assertThat(names(courseService.searchCourses("자료", null, null, null, 20)))
+                .containsExactly("자료구조 기초", "자료구조 심화");
+        assertThat(names(courseService.searchCourses("구조심화", null, null, null, 20)))
+                .containsExactly("자료구조 심화");
+        assertThat(names(courseService.searchCourses("ㅈㄹㄱㅈ", null, null, null, 20)))
+                .containsExactly("자료구조 기초", "자료구조 심화");
+        assertThat(names(courseService.searchCourses("ma2", null, null, null, 20)))
+                .containsExactly("선형대수학 심화");
+        assertThat(names(courseService.searchCourses("서연", null, null, null, 20)))
+                .containsExactly("선형대수학 심화");
+        // "자료"와 "심화"가 모두 들어 있어도 이어진 문자열이 아니면 찾지 않는다
+        assertThat(courseService.searchCourses("자료심화", null, null, null, 20).getTotal()).isZero();
+    }
+
+    @Test
+    void 필터별_건수는_자기_필터를_뺀_조건으로_세고_신청_인원은_현재_값을_쓴다() {
+        Course basic = createCourse("자료구조 기초", "CS101", 3, 30, dept, kim, DayOfWeek.MON, LocalTime.of(9, 0));
+        createCourse("알고리즘 심화", "CS202", 3, 30, dept, kim, DayOfWeek.TUE, LocalTime.of(9, 0));
+        createCourse("선형대수학 심화", "MA201", 2, 30, math, lee, DayOfWeek.MON, LocalTime.of(9, 0));
+        Student student = createStudent("202400001", "홍길동");
+        enrollmentService.enroll(student.getId(), basic.getId());
+
+        CourseSearchResponse result = courseService.searchCourses("", "컴퓨터공학과", null, DayOfWeek.MON, 1);
+
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getCourses()).extracting(CourseResponse::getEnrolled).containsExactly(1);
+        assertThat(result.getFacets().getDepartments()).isEqualTo(Map.of("컴퓨터공학과", 1, "수학과", 1));
+        assertThat(result.getFacets().getDays()).isEqualTo(Map.of(DayOfWeek.MON, 1, DayOfWeek.TUE, 1));
+        assertThat(result.getFacets().getCredits()).isEqualTo(Map.of(3, 1));
+    }
+
+    private static List<String> names(CourseSearchResponse result) {
+        return result.getCourses().stream().map(CourseResponse::getName).toList();
+    }
+}
@@ -3,17 +3,8 @@ package com.musinsa.course.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.musinsa.course.domain.Course;
-import com.musinsa.course.domain.CourseSchedule;
 import com.musinsa.course.domain.DayOfWeek;
-import com.musinsa.course.domain.Department;
-import com.musinsa.course.domain.Professor;
 import com.musinsa.course.domain.Student;
-import com.musinsa.course.repository.CourseRepository;
-import com.musinsa.course.repository.CourseScheduleRepository;
-import com.musinsa.course.repository.DepartmentRepository;
-import com.musinsa.course.repository.EnrollmentRepository;
-import com.musinsa.course.repository.ProfessorRepository;
-import com.musinsa.course.repository.StudentRepository;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,50 +20,20 @@ import org.springframework.test.annotation.DirtiesContext;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
-class EnrollmentConcurrencyTest {
+class EnrollmentConcurrencyTest extends EnrollmentTestSupport {
 
     @Autowired
     private EnrollmentService enrollmentService;
 
     @Autowired
-    private DepartmentRepository departmentRepository;
-
-    @Autowired
-    private ProfessorRepository professorRepository;
-
-    @Autowired
-    private CourseRepository courseRepository;
-
-    @Autowired
-    private CourseScheduleRepository courseScheduleRepository;
-
-    @Autowired
-    private StudentRepository studentRepository;
-
-    @Autowired
-    private EnrollmentRepository enrollmentRepository;
+    private StudentService studentService;
 
     private Course testCourse;
     private List<Student> testStudents;
 
     @BeforeEach
     void setUp() {
-        enrollmentRepository.deleteAll();
-        courseScheduleRepository.deleteAll();
-        courseRepository.deleteAll();
-        studentRepository.deleteAll();
-        professorRepository.deleteAll();
-        departmentRepository.deleteAll();
-
-        Department dept = departmentRepository.save(new Department("테스트학과"));
-        Professor prof = professorRepository.save(new Professor("테스트교수", dept));
-
-        testCourse = new Course("테스트강좌", "TEST001", 3, 1, dept, prof);
-        testCourse = courseRepository.save(testCourse);
-
-        CourseSchedule schedule = new CourseSchedule(
-                testCourse, DayOfWeek.MON, LocalTime.of(9, 0), LocalTime.of(10, 30));
-        courseScheduleRepository.save(schedule);
+        testCourse = createCourse("테스트강좌", "TEST001", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
 
         testStudents = new ArrayList<>();
         for (int i = 0; i < 100; i++) {
@@ -138,13 +99,8 @@ class EnrollmentConcurrencyTest {
         // Given: 동일 학생 1명, 강좌 2개(동일 요일/시간 충돌) + 강좌 1개(충돌 없음)
         Student target = testStudents.get(0);
 
-        Course conflictCourse = new Course("충돌강좌", "TC001", 3, 10, deptForCourses(), professorForCourses());
-        conflictCourse = courseRepository.save(conflictCourse);
-        courseScheduleRepository.save(new CourseSchedule(conflictCourse, DayOfWeek.MON, LocalTime.of(9, 0), LocalTime.of(10, 30)));
-
-        Course okCourse = new Course("비충돌강좌", "TC002", 3, 10, deptForCourses(), professorForCourses());
-        okCourse = courseRepository.save(okCourse);
-        courseScheduleRepository.save(new CourseSchedule(okCourse, DayOfWeek.TUE, LocalTime.of(9, 0), LocalTime.of(10, 30)));
+        Course conflictCourse = createCourse("충돌강좌", "TC001", 3, 10, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course okCourse = createCourse("비충돌강좌", "TC002", 3, 10, DayOfWeek.TUE, LocalTime.of(9, 0));
 
         // When: 동일 학생이 동시에 두 강좌 신청
         ExecutorService executor = Executors.newFixedThreadPool(2);
@@ -185,13 +141,7 @@ class EnrollmentConcurrencyTest {
         // Then: 충돌 강좌는 실패, 비충돌 강좌는 성공 → 성공 1, 실패 1
         assertThat(success.get()).isEqualTo(2);
         assertThat(fail.get()).isEqualTo(0);
-    }
-
-    private Department deptForCourses() {
-        return departmentRepository.findAll().stream().findFirst().orElseThrow();
-    }
-
-    private Professor professorForCourses() {
-        return professorRepository.findAll().stream().findFirst().orElseThrow();
+        assertThat(studentRepository.findById(target.getId()).orElseThrow().getEnrolledCredits()).isEqualTo(6);
+        assertThat(studentService.findCreditMismatches()).isEmpty();
     }
 }
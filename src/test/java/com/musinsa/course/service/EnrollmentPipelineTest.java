@@ -0,0 +1,209 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.course.CourseApplication;
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.exception.EnrollmentTimeoutException;
+import com.musinsa.course.exception.TimeConflictException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * EnrollmentConcurrencyTest와 같은 시나리오를 그룹 커밋 파이프라인으로 검증한다.
+ * 처리량 비교는 부하 시뮬레이터(./gradlew loadTest)로 파이프라인을 켜고/끄고 실행한다.
+ */
+// 시간 초과를 확인할 수 있도록 결과 대기 시간은 짧게, 락 대기 시간은 그보다 길게 둔다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pipelinedb;LOCK_TIMEOUT=10000",
+        "course.enrollment.pipeline.response-timeout-ms=" + EnrollmentPipelineTest.RESPONSE_TIMEOUT_MS
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class EnrollmentPipelineTest extends EnrollmentTestSupport {
+
+    static final long RESPONSE_TIMEOUT_MS = 1_000;
+
+    @Autowired
+    private EnrollmentPipeline enrollmentPipeline;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Student> testStudents;
+
+    @BeforeEach
+    void setUp() {
+        testStudents = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            testStudents.add(new Student(String.format("TEST%05d", i + 1), "학생" + (i + 1), 1, dept));
+        }
+        testStudents = studentRepository.saveAll(testStudents);
+    }
+
+    @Test
+    void 동시에_100명이_정원_1명_강좌에_신청하면_1명만_성공() throws Exception {
+        Course course = createCourse("테스트강좌", "TEST001", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        AtomicInteger[] counts = runConcurrently(testStudents.size(),
+                i -> enrollmentPipeline.enroll(testStudents.get(i).getId(), course.getId()));
+
+        assertThat(counts[0].get()).isEqualTo(1);
+        assertThat(counts[1].get()).isEqualTo(99);
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolled()).isEqualTo(1);
+        assertThat(enrollmentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 동일_학생이_동시에_서로_다른_강좌에_신청해도_학점제한과_시간충돌이_보장된다() {
+        Student target = testStudents.get(0);
+        Course monday = createCourse("월요일강좌", "TC001", 3, 10, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course tuesday = createCourse("화요일강좌", "TC002", 3, 10, DayOfWeek.TUE, LocalTime.of(9, 0));
+        Course mondayAgain = createCourse("월요일충돌강좌", "TC003", 3, 10, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        enrollmentPipeline.enroll(target.getId(), monday.getId());
+        CompletableFuture<?> ok = enrollmentPipeline.submit(target.getId(), tuesday.getId());
+        CompletableFuture<?> conflict = enrollmentPipeline.submit(target.getId(), mondayAgain.getId());
+
+        assertThat(ok.join()).isNotNull();
+        assertThat(catchCause(conflict)).isInstanceOf(TimeConflictException.class);
+        assertThat(studentRepository.findById(target.getId()).orElseThrow().getEnrolledCredits()).isEqualTo(6);
+        assertThat(studentService.findCreditMismatches()).isEmpty();
+    }
+
+    @Test
+    void 정원만큼_동시에_신청하면_모두_성공하고_좌석과_학점이_일치한다() throws Exception {
+        Course course = createCourse("테스트강좌", "TP001", 3, 100, DayOfWeek.MON, LocalTime.of(9, 0));
+        int requests = testStudents.size();
+
+        AtomicInteger[] counts = runConcurrently(requests,
+                i -> enrollmentPipeline.enroll(testStudents.get(i).getId(), course.getId()));
+
+        assertThat(counts[0].get()).isEqualTo(requests);
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolled()).isEqualTo(requests);
+        assertThat(enrollmentRepository.count()).isEqualTo(requests);
+        assertThat(studentService.findCreditMismatches()).isEmpty();
+    }
+
+    @Test
+    void 결과_대기_시간을_넘긴_요청은_대기열에서_빠져_나중에_반영되지_않는다() throws Exception {
+        Student first = testStudents.get(0);
+        Student second = testStudents.get(1);
+        Course course = createCourse("테스트강좌", "TP001", 3, 10, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        // 강좌 행 락을 잡아 두어 첫 배치가 트랜잭션 안에서 기다리게 한다
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Thread blocker = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            courseRepository.findByIdWithLock(course.getId());
+            locked.countDown();
+            awaitQuietly(release);
+        }));
+        blocker.start();
+        locked.await();
+
+        // 작성자가 이미 배치에 넣은 요청은 시간이 지나도 결과를 끝까지 기다린다
+        CompletableFuture<EnrollmentResponse> inBatch = CompletableFuture.supplyAsync(
+                () -> enrollmentPipeline.enroll(first.getId(), course.getId()));
+        Thread.sleep(RESPONSE_TIMEOUT_MS / 4);
+
+        // 배치 뒤에서 기다리던 요청은 시간 초과 시 취소된다
+        assertThatThrownBy(() -> enrollmentPipeline.enroll(second.getId(), course.getId()))
+                .isInstanceOf(EnrollmentTimeoutException.class);
+
+        release.countDown();
+        blocker.join();
+
+        assertThat(inBatch.get(10, TimeUnit.SECONDS).getStudentId()).isEqualTo(first.getId());
+        // 취소된 요청이 남아 있다면 다음 요청과 함께 처리되었을 것이다
+        enrollmentPipeline.enroll(testStudents.get(2).getId(), course.getId());
+        assertThat(enrollmentRepository.existsByStudentIdAndCourseId(second.getId(), course.getId())).isFalse();
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolled()).isEqualTo(2);
+    }
+
+    @Test
+    void 조건부_UPDATE_전략과_함께_켜면_기동을_거부한다() {
+        // 파이프라인은 강좌 → 학생, 조건부 UPDATE는 학생 → 강좌 행 순서로 락을 잡아 교착될 수 있다
+        SpringApplicationBuilder application = new SpringApplicationBuilder(CourseApplication.class);
+
+        assertThatThrownBy(() -> application.run(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:pipeline-conditional-update",
+                "--course.enrollment.pipeline.enabled=true",
+                "--course.enrollment.seat-acquisition=conditional-update"))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AtomicInteger[] runConcurrently(int threadCount, IntConsumer task)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch readyLatch = new CountDownLatch(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            executor.submit(() -> {
+                try {
+                    readyLatch.countDown();
+                    startLatch.await();
+                    task.accept(index);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        readyLatch.await();
+        startLatch.countDown();
+        doneLatch.await();
+        executor.shutdown();
+        return new AtomicInteger[]{successCount, failCount};
+    }
+
+    private Throwable catchCause(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause();
+        }
+    }
+}
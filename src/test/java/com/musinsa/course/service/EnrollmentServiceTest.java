@@ -4,10 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.musinsa.course.domain.Course;
-import com.musinsa.course.domain.CourseSchedule;
 import com.musinsa.course.domain.DayOfWeek;
-import com.musinsa.course.domain.Department;
-import com.musinsa.course.domain.Professor;
 import com.musinsa.course.domain.Student;
 import com.musinsa.course.dto.EnrollmentResponse;
 import com.musinsa.course.exception.CapacityExceededException;
@@ -17,12 +14,7 @@ import com.musinsa.course.exception.DuplicateEnrollmentException;
 import com.musinsa.course.exception.EnrollmentNotFoundException;
 import com.musinsa.course.exception.StudentNotFoundException;
 import com.musinsa.course.exception.TimeConflictException;
-import com.musinsa.course.repository.CourseRepository;
-import com.musinsa.course.repository.CourseScheduleRepository;
-import com.musinsa.course.repository.DepartmentRepository;
-import com.musinsa.course.repository.EnrollmentRepository;
-import com.musinsa.course.repository.ProfessorRepository;
-import com.musinsa.course.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,45 +24,22 @@ import org.springframework.test.annotation.DirtiesContext;
 
 @SpringBootTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
-class EnrollmentServiceTest {
+class EnrollmentServiceTest extends EnrollmentTestSupport {
 
     @Autowired
     private EnrollmentService enrollmentService;
 
     @Autowired
-    private DepartmentRepository departmentRepository;
+    private StudentService studentService;
 
     @Autowired
-    private ProfessorRepository professorRepository;
+    private MeterRegistry meterRegistry;
 
-    @Autowired
-    private CourseRepository courseRepository;
-
-    @Autowired
-    private CourseScheduleRepository courseScheduleRepository;
-
-    @Autowired
-    private StudentRepository studentRepository;
-
-    @Autowired
-    private EnrollmentRepository enrollmentRepository;
-
-    private Department dept;
-    private Professor prof;
     private Student student;
 
     @BeforeEach
     void setUp() {
-        enrollmentRepository.deleteAll();
-        courseScheduleRepository.deleteAll();
-        courseRepository.deleteAll();
-        studentRepository.deleteAll();
-        professorRepository.deleteAll();
-        departmentRepository.deleteAll();
-
-        dept = departmentRepository.save(new Department("컴퓨터공학과"));
-        prof = professorRepository.save(new Professor("김교수", dept));
-        student = studentRepository.save(new Student("202400001", "홍길동", 2, dept));
+        student = createStudent("202400001", "홍길동");
     }
 
     @Test
@@ -237,12 +206,93 @@ class EnrollmentServiceTest {
                 .isInstanceOf(EnrollmentNotFoundException.class);
     }
 
-    private Course createCourse(String name, String code, int credits, int capacity,
-                                 DayOfWeek day, LocalTime startTime) {
-        Course course = new Course(name, code, credits, capacity, dept, prof);
-        course = courseRepository.save(course);
-        CourseSchedule schedule = new CourseSchedule(course, day, startTime, startTime.plusMinutes(90));
-        courseScheduleRepository.save(schedule);
-        return course;
+    @Test
+    void 검증_실패로_롤백되면_선점한_좌석이_반환된다() {
+        Course taken = createCourse("자료구조", "CS070", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        enrollmentService.enroll(student.getId(), taken.getId());
+
+        // 정원 1명 강좌: 시간 충돌로 실패한 요청이 좌석을 계속 점유하면 안 된다
+        Course lastSeat = createCourse("알고리즘", "CS071", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+        assertThatThrownBy(() -> enrollmentService.enroll(student.getId(), lastSeat.getId()))
+                .isInstanceOf(TimeConflictException.class);
+
+        Student other = createStudent("202400002", "김철수");
+        EnrollmentResponse response = enrollmentService.enroll(other.getId(), lastSeat.getId());
+
+        assertThat(response).isNotNull();
+        assertThat(courseRepository.findById(lastSeat.getId()).orElseThrow().getEnrolled()).isEqualTo(1);
+    }
+
+    @Test
+    void 정원이_마감된_강좌는_반복_신청해도_정원초과로_거절된다() {
+        Course course = createCourse("운영체제", "CS080", 3, 1, DayOfWeek.TUE, LocalTime.of(9, 0));
+        enrollmentService.enroll(student.getId(), course.getId());
+
+        Student other = studentRepository.save(new Student("202400003", "이영희", 1, dept));
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> enrollmentService.enroll(other.getId(), course.getId()))
+                    .isInstanceOf(CapacityExceededException.class);
+        }
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolled()).isEqualTo(1);
+    }
+
+    @Test
+    void 누적_학점은_신청과_취소를_거쳐도_집계값과_일치한다() {
+        Course course1 = createCourse("자료구조", "CS090", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course course2 = createCourse("알고리즘", "CS091", 2, 30, DayOfWeek.TUE, LocalTime.of(9, 0));
+        Course course3 = createCourse("운영체제", "CS092", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        enrollmentService.enroll(student.getId(), course1.getId());
+        EnrollmentResponse second = enrollmentService.enroll(student.getId(), course2.getId());
+        assertThatThrownBy(() -> enrollmentService.enroll(student.getId(), course3.getId()))
+                .isInstanceOf(TimeConflictException.class);
+        enrollmentService.cancel(second.getId());
+
+        Student updated = studentRepository.findById(student.getId()).orElseThrow();
+        assertThat(updated.getEnrolledCredits()).isEqualTo(3);
+        assertThat(updated.getEnrolledCredits()).isEqualTo(enrollmentRepository.sumCreditsByStudentId(student.getId()));
+        assertThat(studentService.findCreditMismatches()).isEmpty();
+    }
+
+    @Test
+    void 누적_학점이_어긋나_있으면_취소가_0으로_덮지_않고_실패한다() {
+        Course course = createCourse("자료구조", "CS093", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        EnrollmentResponse enrollment = enrollmentService.enroll(student.getId(), course.getId());
+
+        // 누적 학점 컬럼만 0으로 어긋나게 만든다
+        Student drifted = studentRepository.findById(student.getId()).orElseThrow();
+        drifted.subtractCredits(3);
+        studentRepository.save(drifted);
+        assertThat(studentService.findCreditMismatches()).containsExactly(student.getId());
+
+        assertThatThrownBy(() -> enrollmentService.cancel(enrollment.getId()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(enrollmentRepository.existsById(enrollment.getId())).isTrue();
+        assertThat(studentService.findCreditMismatches()).containsExactly(student.getId());
+    }
+
+    @Test
+    void 수강신청_단계별_시간과_거절_사유가_기록된다() {
+        Course course1 = createCourse("자료구조", "CS095", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course course2 = createCourse("운영체제", "CS096", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        enrollmentService.enroll(student.getId(), course1.getId());
+        assertThatThrownBy(() -> enrollmentService.enroll(student.getId(), course2.getId()))
+                .isInstanceOf(TimeConflictException.class);
+
+        assertThat(meterRegistry.find("enrollment.stage").tags("operation", "enroll", "stage", "course_lock")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.find("enrollment.stage").tags("operation", "enroll", "stage", "insert")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("enrollment.rejections").tag("reason", "TimeConflictException")
+                .counter().count()).isEqualTo(1.0);
+
+        // 규칙 거절이 아닌 실패는 거절 지표에 섞이지 않는다
+        assertThatThrownBy(() -> enrollmentService.enroll(999999L, course1.getId()))
+                .isInstanceOf(StudentNotFoundException.class);
+        assertThat(meterRegistry.find("enrollment.rejections").tag("reason", "StudentNotFoundException")
+                .counter()).isNull();
+        assertThat(meterRegistry.find("enrollment.errors").tag("type", "StudentNotFoundException")
+                .counter().count()).isEqualTo(1.0);
     }
 }
@@ -0,0 +1,83 @@
+package com.musinsa.course.service;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.CourseSchedule;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Department;
+import com.musinsa.course.domain.Professor;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.CourseScheduleRepository;
+import com.musinsa.course.repository.DepartmentRepository;
+import com.musinsa.course.repository.EnrollmentRepository;
+import com.musinsa.course.repository.ProfessorRepository;
+import com.musinsa.course.repository.StudentRepository;
+import com.musinsa.course.repository.WaitlistRepository;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 수강신청 데이터를 쓰는 통합 테스트의 공통 픽스처.
+ * 테스트마다 모든 데이터를 지우고 기본 학과/교수를 만든 뒤, 강좌와 학생을 만드는 도우미를 제공한다.
+ */
+abstract class EnrollmentTestSupport {
+
+    @Autowired
+    protected DepartmentRepository departmentRepository;
+
+    @Autowired
+    protected ProfessorRepository professorRepository;
+
+    @Autowired
+    protected CourseRepository courseRepository;
+
+    @Autowired
+    protected CourseScheduleRepository courseScheduleRepository;
+
+    @Autowired
+    protected StudentRepository studentRepository;
+
+    @Autowired
+    protected EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    protected WaitlistRepository waitlistRepository;
+
+    protected Department dept;
+    protected Professor prof;
+
+    @BeforeEach
+    void resetData() {
+        waitlistRepository.deleteAll();
+        enrollmentRepository.deleteAll();
+        courseScheduleRepository.deleteAll();
+        courseRepository.deleteAll();
+        studentRepository.deleteAll();
+        professorRepository.deleteAll();
+        departmentRepository.deleteAll();
+
+        dept = departmentRepository.save(new Department("컴퓨터공학과"));
+        prof = professorRepository.save(new Professor("김교수", dept));
+    }
+
+    protected Student createStudent(String studentNumber, String name) {
+        return studentRepository.save(new Student(studentNumber, name, 2, dept));
+    }
+
+    /**
+     * 기본 학과/교수의 강좌를 만든다. 수업은 startTime부터 90분.
+     */
+    protected Course createCourse(String name, String code, int credits, int capacity,
+                                  DayOfWeek day, LocalTime startTime) {
+        return createCourse(name, code, credits, capacity, dept, prof, day, startTime);
+    }
+
+    protected Course createCourse(String name, String code, int credits, int capacity,
+                                  Department department, Professor professor,
+                                  DayOfWeek day, LocalTime startTime) {
+        Course course = courseRepository.save(new Course(name, code, credits, capacity, department, professor));
+        courseScheduleRepository.save(new CourseSchedule(course, day, startTime, startTime.plusMinutes(90)));
+        return course;
+    }
+}
@@ -0,0 +1,138 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.ExportFormat;
+import com.musinsa.course.exception.ExportBusyException;
+import com.musinsa.course.service.ExportService.ExportSlot;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(properties = "course.export.max-concurrent=1")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ExportServiceTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private MockMvc mockMvc;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = createStudent("202400001", "홍길동");
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void 수강신청_내역을_CSV와_NDJSON으로_내보낸다() {
+        Course first = createCourse("자료구조, 실습", "CS120", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course second = createCourse("알고리즘", "CS121", 3, 30, DayOfWeek.TUE, LocalTime.of(9, 0));
+        enrollmentService.enroll(student.getId(), first.getId());
+        enrollmentService.enroll(student.getId(), second.getId());
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        long csvRows = exportService.writeEnrollments(csv, ExportFormat.CSV, null);
+        String[] csvLines = csv.toString(StandardCharsets.UTF_8).split("\r\n");
+
+        assertThat(csvRows).isEqualTo(2);
+        assertThat(csvLines).hasSize(3);
+        assertThat(csvLines[0]).startsWith("enrollmentId,studentId,studentNumber");
+        assertThat(csvLines[1]).contains("\"자료구조, 실습\"");
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long rosterRows = exportService.writeEnrollments(ndjson, ExportFormat.NDJSON, second.getId());
+        String[] jsonLines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(rosterRows).isEqualTo(1);
+        assertThat(jsonLines).hasSize(1);
+        assertThat(jsonLines[0]).contains("\"courseCode\":\"CS121\"").contains("\"studentName\":\"홍길동\"");
+    }
+
+    @Test
+    void 강좌_목록을_CSV로_내보낸다() throws Exception {
+        createCourse("자료구조, 실습", "CS122", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        createCourse("알고리즘", "CS123", 3, 30, DayOfWeek.TUE, LocalTime.of(9, 0));
+
+        MvcResult started = mockMvc.perform(get("/exports/courses").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String[] lines = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\r\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,courseCode,name");
+        assertThat(String.join("\n", lines)).contains("\"자료구조, 실습\"").contains("CS123");
+    }
+
+    @Test
+    void 동시_내보내기가_상한에_닿으면_기다리지_않고_503으로_거절한다() throws Exception {
+        Course course = createCourse("자료구조", "CS124", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        enrollmentService.enroll(student.getId(), course.getId());
+
+        // 다른 다운로드가 자리를 잡고 있는 상태
+        ExportSlot other = exportService.acquireEnrollmentExport();
+        String body = mockMvc.perform(get("/exports/enrollments"))
+                .andExpect(status().isServiceUnavailable())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body).contains("EXPORT_BUSY");
+        other.abandon();
+
+        // 끝난 다운로드는 자리를 돌려주므로 이어서 두 번 받을 수 있다
+        for (int i = 0; i < 2; i++) {
+            MvcResult started = mockMvc.perform(get("/exports/enrollments").param("format", "csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String csv = mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            assertThat(csv).contains("CS124");
+        }
+
+        // 본문의 반납과 요청 완료 시 회수가 겹쳐도 자리는 한 번만 돌아온다
+        exportService.acquireEnrollmentExport();
+        assertThatThrownBy(exportService::acquireEnrollmentExport).isInstanceOf(ExportBusyException.class);
+    }
+
+    @Test
+    void 본문이_시작되지_않고_요청이_끝나면_자리를_회수한다() {
+        // 작업 거부나 비동기 타임아웃으로 본문이 실행되지 않은 경우
+        ExportSlot abandoned = exportService.acquireEnrollmentExport();
+        abandoned.abandon();
+        assertThat(abandoned.begin()).isFalse();
+
+        // 이미 쓰기 시작한 본문의 자리는 본문이 끝날 때 돌려준다
+        ExportSlot writing = exportService.acquireEnrollmentExport();
+        assertThat(writing.begin()).isTrue();
+        writing.abandon();
+        assertThatThrownBy(exportService::acquireEnrollmentExport).isInstanceOf(ExportBusyException.class);
+        writing.finish();
+
+        exportService.acquireEnrollmentExport();
+    }
+}
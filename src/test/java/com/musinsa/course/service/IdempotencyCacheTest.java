@@ -0,0 +1,211 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.exception.CapacityExceededException;
+import com.musinsa.course.exception.EnrollmentTimeoutException;
+import com.musinsa.course.exception.IdempotencyKeyReusedException;
+import java.time.LocalTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class IdempotencyCacheTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private IdempotencyCache idempotencyCache;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Student student;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        student = createStudent("202400001", "홍길동");
+        course = createCourse("자료구조", "CS001", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+    }
+
+    @Test
+    void 같은_키로_다시_보내면_처음_결과를_다시_실행하지_않고_돌려준다() {
+        AtomicInteger executions = new AtomicInteger();
+
+        EnrollmentResponse first = idempotencyCache.execute("key-1", student.getId(), course.getId(), () -> {
+            executions.incrementAndGet();
+            return enrollmentService.enroll(student.getId(), course.getId());
+        });
+        // 다시 실행되면 중복 수강으로 실패했을 요청
+        EnrollmentResponse retried = idempotencyCache.execute("key-1", student.getId(), course.getId(), () -> {
+            executions.incrementAndGet();
+            return enrollmentService.enroll(student.getId(), course.getId());
+        });
+
+        assertThat(retried).isSameAs(first);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(enrollmentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 처리_중인_같은_키의_요청은_한_번의_실행_결과를_함께_받는다() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<EnrollmentResponse> original = CompletableFuture.supplyAsync(() ->
+                idempotencyCache.execute("key-2", student.getId(), course.getId(), () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return enrollmentService.enroll(student.getId(), course.getId());
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<EnrollmentResponse> duplicate = CompletableFuture.supplyAsync(() ->
+                idempotencyCache.execute("key-2", student.getId(), course.getId(), () -> {
+                    executions.incrementAndGet();
+                    return enrollmentService.enroll(student.getId(), course.getId());
+                }));
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(original.get(5, TimeUnit.SECONDS));
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(enrollmentRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패한_요청은_보관하지_않고_다른_강좌에_같은_키를_쓰면_거절된다() {
+        assertThatThrownBy(() -> idempotencyCache.execute("key-3", student.getId(), course.getId(), () -> {
+            throw new CapacityExceededException(course.getName(), course.getCapacity());
+        })).isInstanceOf(CapacityExceededException.class);
+
+        EnrollmentResponse response = idempotencyCache.execute("key-3", student.getId(), course.getId(),
+                () -> enrollmentService.enroll(student.getId(), course.getId()));
+        assertThat(response.getCourseId()).isEqualTo(course.getId());
+
+        assertThatThrownBy(() -> idempotencyCache.execute("key-3", student.getId(), course.getId() + 1,
+                () -> enrollmentService.enroll(student.getId(), course.getId() + 1)))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    void 최대_개수를_넘으면_오래된_키부터_지운다() {
+        IdempotencyCache bounded = new IdempotencyCache(600, 2, 10_000);
+        EnrollmentResponse response = enrollmentService.enroll(student.getId(), course.getId());
+        AtomicInteger executions = new AtomicInteger();
+
+        for (String key : new String[] {"a", "b", "c", "a"}) {
+            bounded.execute(key, student.getId(), course.getId(), () -> {
+                executions.incrementAndGet();
+                return response;
+            });
+        }
+
+        // "c" 등록 시 "a"가 밀려나 마지막 "a"는 다시 실행된다
+        assertThat(executions.get()).isEqualTo(4);
+        assertThat(bounded.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 실패한_요청은_개수에서_빠지고_Error로_끝나도_다시_실행할_수_있다() {
+        IdempotencyCache bounded = new IdempotencyCache(600, 2, 10_000);
+        EnrollmentResponse response = enrollmentService.enroll(student.getId(), course.getId());
+
+        for (String key : new String[] {"a", "b", "c"}) {
+            assertThatThrownBy(() -> bounded.execute(key, student.getId(), course.getId(), () -> {
+                throw new CapacityExceededException(course.getName(), course.getCapacity());
+            })).isInstanceOf(CapacityExceededException.class);
+        }
+        assertThatThrownBy(() -> bounded.execute("d", student.getId(), course.getId(), () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        assertThat(bounded.size()).isZero();
+
+        // 실패한 키는 남아 있지 않으므로 다시 실행되고, 성공한 두 키는 최대 개수 안에서 유지된다
+        AtomicInteger executions = new AtomicInteger();
+        for (String key : new String[] {"d", "e", "d", "e"}) {
+            bounded.execute(key, student.getId(), course.getId(), () -> {
+                executions.incrementAndGet();
+                return response;
+            });
+        }
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(bounded.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 처리_중인_요청을_기다리는_시간에는_상한이_있다() throws Exception {
+        IdempotencyCache impatient = new IdempotencyCache(600, 10, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<EnrollmentResponse> original = CompletableFuture.supplyAsync(() ->
+                impatient.execute("key-4", student.getId(), course.getId(), () -> {
+                    started.countDown();
+                    await(release);
+                    return enrollmentService.enroll(student.getId(), course.getId());
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> impatient.execute("key-4", student.getId(), course.getId(),
+                () -> enrollmentService.enroll(student.getId(), course.getId())))
+                .isInstanceOf(EnrollmentTimeoutException.class);
+
+        release.countDown();
+        assertThat(original.get(5, TimeUnit.SECONDS).getCourseId()).isEqualTo(course.getId());
+    }
+
+    @Test
+    void 비동기_요청은_시간_초과_후에도_결과가_정해질_때까지_같은_키의_재시도를_새로_실행하지_않는다() throws Exception {
+        IdempotencyCache impatient = new IdempotencyCache(600, 10, 50);
+        AtomicInteger submissions = new AtomicInteger();
+        CompletableFuture<EnrollmentResponse> queued = new CompletableFuture<>();
+
+        // 파이프라인 대기열에 남아 있는 요청처럼 결과가 아직 정해지지 않음
+        assertThatThrownBy(() -> impatient.executeAsync("key-5", student.getId(), course.getId(), () -> {
+            submissions.incrementAndGet();
+            return queued;
+        })).isInstanceOf(EnrollmentTimeoutException.class);
+        assertThat(impatient.size()).isEqualTo(1);
+
+        CompletableFuture<EnrollmentResponse> retry = CompletableFuture.supplyAsync(() ->
+                impatient.executeAsync("key-5", student.getId(), course.getId(), () -> {
+                    submissions.incrementAndGet();
+                    return CompletableFuture.completedFuture(null);
+                }));
+        queued.complete(enrollmentService.enroll(student.getId(), course.getId()));
+
+        assertThat(retry.get(5, TimeUnit.SECONDS).getCourseId()).isEqualTo(course.getId());
+        assertThat(submissions.get()).isEqualTo(1);
+
+        // 대기열의 요청이 실패로 끝나면 항목을 지워 같은 키로 다시 실행할 수 있다
+        CompletableFuture<EnrollmentResponse> rejected = new CompletableFuture<>();
+        assertThatThrownBy(() -> impatient.executeAsync("key-6", student.getId(), course.getId(), () -> rejected))
+                .isInstanceOf(EnrollmentTimeoutException.class);
+        rejected.completeExceptionally(new CapacityExceededException(course.getName(), course.getCapacity()));
+        assertThat(impatient.size()).isEqualTo(1);
+        assertThat(impatient.executeAsync("key-6", student.getId(), course.getId(),
+                () -> CompletableFuture.completedFuture(retry.join())).getCourseId()).isEqualTo(course.getId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.CursorPage;
+import com.musinsa.course.dto.StudentResponse;
+import com.musinsa.course.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class KeysetPaginationTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private StudentService studentService;
+
+    private List<Student> students;
+
+    @BeforeEach
+    void setUp() {
+        // 이름이 겹치는 학생을 섞어 정렬 키 동률에서도 빠짐/중복이 없는지 확인
+        String[] names = {"김민수", "이영희", "김민수", "박지훈", "이영희", "김민수", "최유진"};
+        students = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            students.add(studentRepository.save(new Student("2024" + String.format("%05d", i), names[i], 1 + i % 4, dept)));
+        }
+    }
+
+    @Test
+    void 커서로_끝까지_넘기면_정렬_순서대로_빠짐없이_한_번씩_조회된다() {
+        List<Long> scrolled = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<StudentResponse> page = studentService.scrollStudents(
+                    Sort.by(Sort.Direction.DESC, "name"), cursor, 2);
+            page.getContent().forEach(student -> scrolled.add(student.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<Long> expected = students.stream()
+                .sorted(Comparator.comparing(Student::getName).thenComparing(Student::getId).reversed())
+                .map(Student::getId)
+                .toList();
+        assertThat(scrolled).containsExactly(expected.toArray());
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    void 변조된_커서는_거절된다() {
+        assertThatThrownBy(() -> studentService.scrollStudents(Sort.unsorted(), "not-a-cursor", 2))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void 형식은_맞지만_필드가_빠진_커서도_거절된다() {
+        for (String json : new String[] {
+                "null",
+                "{}",
+                "{\"direction\":\"ASC\",\"keys\":{\"id\":1}}",
+                "{\"sort\":\"id\",\"keys\":{\"id\":1}}",
+                "{\"sort\":\"id\",\"direction\":\"ASC\"}",
+                "{\"sort\":\"id\",\"direction\":\"ASC\",\"keys\":{}}"}) {
+            String cursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+            assertThatThrownBy(() -> studentService.scrollStudents(Sort.unsorted(), cursor, 2))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+    }
+
+    @Test
+    void 전체_건수_없이_조회하면_다음_페이지_유무만_알려준다() {
+        Slice<StudentResponse> first = studentService.getStudentSlice(PageRequest.of(0, 5, Sort.by("id")));
+        Slice<StudentResponse> last = studentService.getStudentSlice(PageRequest.of(1, 5, Sort.by("id")));
+
+        assertThat(first.getContent()).hasSize(5);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(2);
+        assertThat(last.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.course.CourseApplication;
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.Department;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.DepartmentRepository;
+import com.musinsa.course.repository.StudentRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+class SeedSnapshotTest {
+
+    private static final int STUDENTS = 300;
+    private static final int COURSES = 20;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 두_번째_기동은_스냅샷을_복원하고_새_ID가_겹치지_않는다() throws IOException {
+        long studentCount;
+        try (ConfigurableApplicationContext first = start("seed-snapshot-first")) {
+            assertThat(first.getBean(DataInitializer.class).isRestored()).isFalse();
+            studentCount = first.getBean(StudentRepository.class).count();
+        }
+        assertThat(snapshotFiles()).hasSize(1);
+
+        try (ConfigurableApplicationContext second = start("seed-snapshot-second")) {
+            assertThat(second.getBean(DataInitializer.class).isRestored()).isTrue();
+
+            StudentRepository studentRepository = second.getBean(StudentRepository.class);
+            List<Student> restored = studentRepository.findAll();
+            assertThat(restored).hasSize((int) studentCount);
+            assertThat(second.getBean(CourseRepository.class).count()).isEqualTo(COURSES);
+            long maxId = restored.stream().mapToLong(Student::getId).max().orElseThrow();
+
+            // 복원된 시퀀스에서 이어 받으므로 새 학생 ID는 복원된 ID보다 커야 한다
+            Department department = second.getBean(DepartmentRepository.class).findAll().get(0);
+            Student student = studentRepository.save(new Student("209900001", "스냅샷", 1, department));
+            assertThat(student.getId()).isGreaterThan(maxId);
+
+            Course course = second.getBean(CourseRepository.class).findAll().get(0);
+            EnrollmentResponse response = second.getBean(EnrollmentService.class)
+                    .enroll(student.getId(), course.getId());
+            assertThat(response.getId()).isNotNull();
+        }
+        assertThat(snapshotFiles()).hasSize(1);
+    }
+
+    private ConfigurableApplicationContext start(String database) {
+        return new SpringApplicationBuilder(CourseApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database,
+                "--course.data.students=" + STUDENTS,
+                "--course.data.courses=" + COURSES,
+                "--course.data.partition-size=100",
+                "--course.data.parallelism=2",
+                "--course.data.snapshot.enabled=true",
+                "--course.data.snapshot.directory=" + directory);
+    }
+
+    private List<Path> snapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("seed-[0-9a-f]{16}\\.sql\\.gz"))
+                    .toList();
+        }
+    }
+}
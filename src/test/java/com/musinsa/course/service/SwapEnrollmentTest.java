@@ -0,0 +1,68 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.exception.TimeConflictException;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class SwapEnrollmentTest extends EnrollmentTestSupport {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = createStudent("202400001", "홍길동");
+    }
+
+    @Test
+    void 강좌_교체는_취소할_강좌를_뺀_시간표로_검증해_한_트랜잭션에서_처리한다() {
+        Course dropped = createCourse("자료구조", "CS110", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course added = createCourse("운영체제", "CS111", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+        EnrollmentResponse original = enrollmentService.enroll(student.getId(), dropped.getId());
+
+        // 취소 전 시간표 기준이면 시간 충돌이지만, 교체는 취소 후 시간표로 검증한다
+        EnrollmentResponse swapped = enrollmentService.swap(original.getId(), added.getId());
+
+        assertThat(swapped.getCourseId()).isEqualTo(added.getId());
+        assertThat(enrollmentRepository.findById(original.getId())).isEmpty();
+        assertThat(courseRepository.findById(dropped.getId()).orElseThrow().getEnrolled()).isZero();
+        assertThat(courseRepository.findById(added.getId()).orElseThrow().getEnrolled()).isEqualTo(1);
+        assertThat(studentRepository.findById(student.getId()).orElseThrow().getEnrolledCredits()).isEqualTo(3);
+        assertThat(courseService.getCourseById(dropped.getId()).getEnrolled()).isZero();
+    }
+
+    @Test
+    void 강좌_교체_검증에_실패하면_기존_수강신청이_유지된다() {
+        Course dropped = createCourse("자료구조", "CS112", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course kept = createCourse("알고리즘", "CS113", 3, 30, DayOfWeek.TUE, LocalTime.of(9, 0));
+        Course added = createCourse("운영체제", "CS114", 3, 30, DayOfWeek.TUE, LocalTime.of(9, 0));
+        EnrollmentResponse original = enrollmentService.enroll(student.getId(), dropped.getId());
+        enrollmentService.enroll(student.getId(), kept.getId());
+
+        assertThatThrownBy(() -> enrollmentService.swap(original.getId(), added.getId()))
+                .isInstanceOf(TimeConflictException.class);
+
+        assertThat(enrollmentRepository.findById(original.getId())).isPresent();
+        assertThat(courseRepository.findById(dropped.getId()).orElseThrow().getEnrolled()).isEqualTo(1);
+        assertThat(courseRepository.findById(added.getId()).orElseThrow().getEnrolled()).isZero();
+        assertThat(studentRepository.findById(student.getId()).orElseThrow().getEnrolledCredits()).isEqualTo(6);
+    }
+}
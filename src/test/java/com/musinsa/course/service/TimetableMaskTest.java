@@ -0,0 +1,150 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.TimetableMask;
+import com.musinsa.course.exception.TimeConflictException;
+import com.musinsa.course.repository.EnrolledSlotView;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TimetableMaskTest {
+
+    @Test
+    void 연달아_이어지는_수업은_겹치지_않는다() {
+        TimetableMask morning = TimetableMask.of(DayOfWeek.MON, LocalTime.of(9, 0), LocalTime.of(10, 30));
+        TimetableMask noon = TimetableMask.of(DayOfWeek.MON, LocalTime.of(10, 30), LocalTime.of(12, 0));
+        TimetableMask overlapping = TimetableMask.of(DayOfWeek.MON, LocalTime.of(10, 29), LocalTime.of(11, 0));
+        TimetableMask otherDay = TimetableMask.of(DayOfWeek.TUE, LocalTime.of(9, 0), LocalTime.of(10, 30));
+
+        assertThat(morning.intersects(noon)).isFalse();
+        assertThat(noon.intersects(morning)).isFalse();
+        assertThat(morning.intersects(overlapping)).isTrue();
+        assertThat(morning.intersects(otherDay)).isFalse();
+    }
+
+    @Test
+    void 초가_있는_시각은_분_단위로_넓혀_충돌로_판단한다() {
+        TimetableMask first = TimetableMask.of(DayOfWeek.MON, LocalTime.of(9, 0), LocalTime.of(10, 30, 30));
+        TimetableMask second = TimetableMask.of(DayOfWeek.MON, LocalTime.of(10, 30, 45), LocalTime.of(12, 0));
+
+        assertThat(first.intersects(second)).isTrue();
+        assertThat(TimetableMask.of(DayOfWeek.MON, LocalTime.of(9, 0), LocalTime.of(9, 0))).isEqualTo(TimetableMask.EMPTY);
+    }
+
+    @Test
+    void 워드_경계를_넘는_구간도_양쪽_끝까지_표시한다() {
+        // 1:00 = 60분, 1:10 = 70분 → 64분 경계를 걸친다
+        TimetableMask spanning = TimetableMask.of(DayOfWeek.MON, LocalTime.of(1, 0), LocalTime.of(1, 10));
+
+        assertThat(spanning.intersects(minute(DayOfWeek.MON, 1, 0))).isTrue();
+        assertThat(spanning.intersects(minute(DayOfWeek.MON, 1, 3))).isTrue();
+        assertThat(spanning.intersects(minute(DayOfWeek.MON, 1, 4))).isTrue();
+        assertThat(spanning.intersects(minute(DayOfWeek.MON, 1, 9))).isTrue();
+        assertThat(spanning.intersects(minute(DayOfWeek.MON, 0, 59))).isFalse();
+        assertThat(spanning.intersects(minute(DayOfWeek.MON, 1, 10))).isFalse();
+
+        // 여러 워드를 가득 채우는 긴 구간과 요일 경계
+        TimetableMask allDay = TimetableMask.of(DayOfWeek.MON, LocalTime.MIN, LocalTime.MAX);
+        assertThat(allDay.intersects(minute(DayOfWeek.MON, 12, 0))).isTrue();
+        assertThat(allDay.intersects(minute(DayOfWeek.MON, 23, 59))).isTrue();
+        assertThat(allDay.intersects(minute(DayOfWeek.TUE, 0, 0))).isFalse();
+    }
+
+    @Test
+    void 합집합은_각_마스크와_모두_겹친다() {
+        TimetableMask monday = TimetableMask.of(DayOfWeek.MON, LocalTime.of(9, 0), LocalTime.of(10, 30));
+        TimetableMask friday = TimetableMask.of(DayOfWeek.FRI, LocalTime.of(15, 0), LocalTime.of(16, 30));
+
+        TimetableMask union = TimetableMask.union(List.of(monday, TimetableMask.EMPTY, friday));
+
+        assertThat(union).isEqualTo(monday.or(friday)).isEqualTo(friday.or(monday));
+        assertThat(union.intersects(monday)).isTrue();
+        assertThat(union.intersects(friday)).isTrue();
+        assertThat(union.intersects(minute(DayOfWeek.WED, 9, 0))).isFalse();
+        assertThat(monday.or(TimetableMask.EMPTY)).isSameAs(monday);
+        assertThat(TimetableMask.union(List.of())).isEqualTo(TimetableMask.EMPTY);
+        assertThat(TimetableMask.EMPTY.intersects(union)).isFalse();
+    }
+
+    @Test
+    void 충돌한_기존_강좌와_수업_시간으로_오류_메시지를_만든다() {
+        TimetableCache timetableCache = new TimetableCache(null);
+        StudentTimetable timetable = StudentTimetable.of(List.of(
+                new Slot(1L, "자료구조", DayOfWeek.MON, LocalTime.of(9, 0), LocalTime.of(10, 30)),
+                new Slot(2L, "운영체제", DayOfWeek.TUE, LocalTime.of(9, 0), LocalTime.of(10, 30)),
+                new Slot(2L, "운영체제", DayOfWeek.THU, LocalTime.of(13, 0), LocalTime.of(14, 30)),
+                new Slot(3L, "세미나", null, null, null)), timetableCache);
+
+        CourseTimetable backToBack = CourseTimetable.compile(4L, List.of(
+                new Slot(4L, "알고리즘", DayOfWeek.MON, LocalTime.of(10, 30), LocalTime.of(12, 0))));
+        CourseTimetable conflicting = CourseTimetable.compile(5L, List.of(
+                new Slot(5L, "네트워크", DayOfWeek.WED, LocalTime.of(9, 0), LocalTime.of(10, 30)),
+                new Slot(5L, "네트워크", DayOfWeek.THU, LocalTime.of(14, 0), LocalTime.of(15, 30))));
+
+        assertThat(timetable.contains(3L)).isTrue();
+        assertThat(timetable.findConflict(backToBack)).isNull();
+        EnrollmentRules.checkTimeConflict(timetable, backToBack);
+
+        CourseTimetable conflict = timetable.findConflict(conflicting);
+        assertThat(conflict.getCourseId()).isEqualTo(2L);
+        assertThat(conflict.findOverlappingSlot(conflicting.getMask())).isEqualTo("목 13:00-14:30");
+        assertThatThrownBy(() -> EnrollmentRules.checkTimeConflict(timetable, conflicting))
+                .isInstanceOf(TimeConflictException.class)
+                .hasMessage("'운영체제'과(와) 시간이 겹칩니다 (목 13:00-14:30)");
+
+        // 충돌한 강좌를 빼면 통과하고, 더하면 다시 충돌한다
+        assertThat(timetable.minus(2L).findConflict(conflicting)).isNull();
+        assertThat(timetable.minus(2L).plus(conflict).findConflict(conflicting)).isSameAs(conflict);
+    }
+
+    private static TimetableMask minute(DayOfWeek day, int hour, int minute) {
+        LocalTime start = LocalTime.of(hour, minute);
+        return TimetableMask.of(day, start, start.plusMinutes(1));
+    }
+
+    private static final class Slot implements EnrolledSlotView {
+
+        private final Long courseId;
+        private final String courseName;
+        private final DayOfWeek dayOfWeek;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+
+        private Slot(Long courseId, String courseName, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+            this.courseId = courseId;
+            this.courseName = courseName;
+            this.dayOfWeek = dayOfWeek;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        @Override
+        public Long getCourseId() {
+            return courseId;
+        }
+
+        @Override
+        public String getCourseName() {
+            return courseName;
+        }
+
+        @Override
+        public DayOfWeek getDayOfWeek() {
+            return dayOfWeek;
+        }
+
+        @Override
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+    }
+}
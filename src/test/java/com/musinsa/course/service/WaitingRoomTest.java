@@ -0,0 +1,172 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.Department;
+import com.musinsa.course.domain.Professor;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.AdmissionTicketResponse;
+import com.musinsa.course.exception.AdmissionRequiredException;
+import com.musinsa.course.exception.AdmissionTicketNotFoundException;
+import com.musinsa.course.exception.CourseNotFoundException;
+import com.musinsa.course.exception.StudentNotFoundException;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.DepartmentRepository;
+import com.musinsa.course.repository.ProfessorRepository;
+import com.musinsa.course.repository.StudentRepository;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * 입장 처리는 tick()을 직접 호출해 검증한다 (자동 틱은 사실상 꺼 둠).
+ */
+@SpringBootTest(properties = {
+        "course.waiting-room.enabled=true",
+        "course.waiting-room.max-in-flight=2",
+        "course.waiting-room.tick-ms=3600000"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class WaitingRoomTest {
+
+    @Autowired
+    private WaitingRoom waitingRoom;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ProfessorRepository professorRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private Course course;
+    private Long s1;
+    private Long s2;
+    private Long s3;
+
+    @BeforeEach
+    void setUp() {
+        Department dept = departmentRepository.save(new Department("대기실학과"));
+        Professor prof = professorRepository.save(new Professor("김교수", dept));
+        course = courseRepository.save(new Course("자료구조", "WR001", 3, 30, dept, prof));
+        s1 = studentRepository.save(new Student("202400001", "학생1", 2, dept)).getId();
+        s2 = studentRepository.save(new Student("202400002", "학생2", 2, dept)).getId();
+        s3 = studentRepository.save(new Student("202400003", "학생3", 2, dept)).getId();
+    }
+
+    @Test
+    void 입장_중인_인원이_상한에_닿으면_수강신청이_끝날_때까지_다음_번호표를_입장시키지_않는다() {
+        AdmissionTicketResponse first = waitingRoom.issue(s1, course.getId());
+        AdmissionTicketResponse second = waitingRoom.issue(s2, course.getId());
+        AdmissionTicketResponse third = waitingRoom.issue(s3, course.getId());
+        assertThat(third.getPosition()).isEqualTo(3);
+
+        waitingRoom.tick();
+        assertThat(waitingRoom.getTicket(first.getTicketId()).getStatus()).isEqualTo("ADMITTED");
+        assertThat(waitingRoom.getTicket(second.getTicketId()).getStatus()).isEqualTo("ADMITTED");
+        assertThat(waitingRoom.getTicket(third.getTicketId()).getStatus()).isEqualTo("WAITING");
+        assertThat(waitingRoom.getTicket(third.getTicketId()).getPosition()).isEqualTo(1);
+        assertThatThrownBy(() -> waitingRoom.admit(third.getTicketId(), s3, course.getId()))
+                .isInstanceOf(AdmissionRequiredException.class);
+
+        waitingRoom.admit(first.getTicketId(), s1, course.getId());
+        waitingRoom.complete(first.getTicketId());
+        waitingRoom.tick();
+
+        assertThat(waitingRoom.getTicket(first.getTicketId()).getStatus()).isEqualTo("USED");
+        assertThat(waitingRoom.getTicket(third.getTicketId()).getStatus()).isEqualTo("ADMITTED");
+    }
+
+    @Test
+    void 번호표는_발급받은_학생과_강좌에_한_번만_쓸_수_있다() {
+        AdmissionTicketResponse ticket = waitingRoom.issue(s1, course.getId());
+        waitingRoom.tick();
+
+        assertThatThrownBy(() -> waitingRoom.admit(ticket.getTicketId(), s2, course.getId()))
+                .isInstanceOf(AdmissionRequiredException.class);
+        assertThatThrownBy(() -> waitingRoom.admit(null, s1, course.getId()))
+                .isInstanceOf(AdmissionRequiredException.class);
+
+        waitingRoom.admit(ticket.getTicketId(), s1, course.getId());
+        assertThatThrownBy(() -> waitingRoom.admit(ticket.getTicketId(), s1, course.getId()))
+                .isInstanceOf(AdmissionRequiredException.class);
+    }
+
+    @Test
+    void 없는_강좌나_학생의_번호표는_발급하지_않는다() {
+        assertThatThrownBy(() -> waitingRoom.issue(s1, 999_999L))
+                .isInstanceOf(CourseNotFoundException.class);
+        assertThatThrownBy(() -> waitingRoom.issue(999_999L, course.getId()))
+                .isInstanceOf(StudentNotFoundException.class);
+    }
+
+    @Test
+    void 유효한_번호표가_있으면_다시_발급해도_같은_번호표를_돌려준다() {
+        AdmissionTicketResponse first = waitingRoom.issue(s1, course.getId());
+        AdmissionTicketResponse again = waitingRoom.issue(s1, course.getId());
+        AdmissionTicketResponse other = waitingRoom.issue(s2, course.getId());
+        assertThat(again.getTicketId()).isEqualTo(first.getTicketId());
+        assertThat(other.getPosition()).isEqualTo(2);
+
+        // 입장 후에도 같은 번호표, 사용하고 나면 새 번호표
+        waitingRoom.tick();
+        assertThat(waitingRoom.issue(s1, course.getId()).getTicketId()).isEqualTo(first.getTicketId());
+        waitingRoom.admit(first.getTicketId(), s1, course.getId());
+        waitingRoom.complete(first.getTicketId());
+        assertThat(waitingRoom.issue(s1, course.getId()).getTicketId()).isNotEqualTo(first.getTicketId());
+    }
+
+    @Test
+    void 반납한_번호표는_줄에서_빠지고_입장_자리를_바로_돌려준다() {
+        AdmissionTicketResponse first = waitingRoom.issue(s1, course.getId());
+        AdmissionTicketResponse second = waitingRoom.issue(s2, course.getId());
+        AdmissionTicketResponse third = waitingRoom.issue(s3, course.getId());
+
+        // 대기 중에 반납: 입장 차례가 와도 자리를 쓰지 않는다
+        waitingRoom.release(second.getTicketId());
+        waitingRoom.tick();
+        assertThat(waitingRoom.getTicket(second.getTicketId()).getStatus()).isEqualTo("RELEASED");
+        assertThat(waitingRoom.getTicket(first.getTicketId()).getStatus()).isEqualTo("ADMITTED");
+        assertThat(waitingRoom.getTicket(third.getTicketId()).getStatus()).isEqualTo("ADMITTED");
+
+        // 입장 후 반납: 다음 대기자가 바로 입장하고 반납한 번호표는 쓸 수 없다
+        AdmissionTicketResponse fourth = waitingRoom.issue(s2, course.getId());
+        waitingRoom.tick();
+        assertThat(waitingRoom.getTicket(fourth.getTicketId()).getStatus()).isEqualTo("WAITING");
+        waitingRoom.release(first.getTicketId());
+        waitingRoom.tick();
+        assertThat(waitingRoom.getTicket(fourth.getTicketId()).getStatus()).isEqualTo("ADMITTED");
+        assertThatThrownBy(() -> waitingRoom.admit(first.getTicketId(), s1, course.getId()))
+                .isInstanceOf(AdmissionRequiredException.class);
+
+        assertThatThrownBy(() -> waitingRoom.release("unknown"))
+                .isInstanceOf(AdmissionTicketNotFoundException.class);
+    }
+
+    @Test
+    void 입장_후_확인_시간_안에_쓰지_않은_번호표는_만료되어_다음_대기자가_입장한다() {
+        AdmissionTicketResponse first = waitingRoom.issue(s1, course.getId());
+        AdmissionTicketResponse second = waitingRoom.issue(s2, course.getId());
+        AdmissionTicketResponse third = waitingRoom.issue(s3, course.getId());
+        long now = System.nanoTime();
+        waitingRoom.tick(now);
+        waitingRoom.admit(second.getTicketId(), s2, course.getId());
+
+        // 입장 확인 시간(기본 5초)이 지나면 쓰지 않은 번호표만 만료된다
+        waitingRoom.tick(now + TimeUnit.SECONDS.toNanos(6));
+
+        assertThat(waitingRoom.getTicket(first.getTicketId()).getStatus()).isEqualTo("EXPIRED");
+        assertThat(waitingRoom.getTicket(second.getTicketId()).getStatus()).isEqualTo("USED");
+        assertThat(waitingRoom.getTicket(third.getTicketId()).getStatus()).isEqualTo("ADMITTED");
+    }
+}
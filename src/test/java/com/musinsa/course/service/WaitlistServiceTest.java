@@ -0,0 +1,207 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.DayOfWeek;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.domain.WaitlistStatus;
+import com.musinsa.course.dto.EnrollmentResponse;
+import com.musinsa.course.dto.WaitlistResponse;
+import com.musinsa.course.exception.CapacityExceededException;
+import com.musinsa.course.exception.DuplicateWaitlistException;
+import com.musinsa.course.exception.WaitlistNotAllowedException;
+import java.time.LocalTime;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 승격기의 재시도를 확인할 수 있도록 락 대기 시간과 재시도 간격을 짧게 둔다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:waitlistdb;LOCK_TIMEOUT=200",
+        "course.waitlist.retry-delay-ms=50"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class WaitlistServiceTest extends EnrollmentTestSupport {
+
+    private static final long PROMOTION_TIMEOUT_MS = 5_000;
+    private static final long LOCK_TIMEOUT_MS = 200;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private SeatCounter seatCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 정원이_남은_강좌는_대기_등록할_수_없다() {
+        Student student = createStudent("202400001", "학생202400001");
+        Course course = createCourse("자료구조", "CS001", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        assertThatThrownBy(() -> waitlistService.join(student.getId(), course.getId()))
+                .isInstanceOf(WaitlistNotAllowedException.class);
+    }
+
+    @Test
+    void 수강취소_후_첫_번째_대기자가_승격되고_다음_대기자의_순번이_당겨진다() throws InterruptedException {
+        Student holder = createStudent("202400001", "학생202400001");
+        Student first = createStudent("202400002", "학생202400002");
+        Student second = createStudent("202400003", "학생202400003");
+        Course course = createCourse("자료구조", "CS001", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        EnrollmentResponse seat = enrollmentService.enroll(holder.getId(), course.getId());
+        WaitlistResponse firstEntry = waitlistService.join(first.getId(), course.getId());
+        WaitlistResponse secondEntry = waitlistService.join(second.getId(), course.getId());
+        assertThat(firstEntry.getPosition()).isEqualTo(1);
+        assertThat(secondEntry.getPosition()).isEqualTo(2);
+        assertThatThrownBy(() -> waitlistService.join(first.getId(), course.getId()))
+                .isInstanceOf(DuplicateWaitlistException.class);
+
+        enrollmentService.cancel(seat.getId());
+
+        WaitlistResponse promoted = awaitResolved(firstEntry.getId());
+        assertThat(promoted.getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        assertThat(enrollmentRepository.existsByStudentIdAndCourseId(first.getId(), course.getId())).isTrue();
+        assertThat(waitlistService.getEntry(secondEntry.getId()).getPosition()).isEqualTo(1);
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolled()).isEqualTo(1);
+    }
+
+    @Test
+    void 시간이_충돌하는_대기자는_건너뛰고_다음_대기자가_승격된다() throws InterruptedException {
+        Student holder = createStudent("202400001", "학생202400001");
+        Student conflicted = createStudent("202400002", "학생202400002");
+        Student next = createStudent("202400003", "학생202400003");
+        Course course = createCourse("자료구조", "CS001", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+        Course sameTime = createCourse("운영체제", "CS002", 3, 30, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        EnrollmentResponse seat = enrollmentService.enroll(holder.getId(), course.getId());
+        WaitlistResponse conflictedEntry = waitlistService.join(conflicted.getId(), course.getId());
+        WaitlistResponse nextEntry = waitlistService.join(next.getId(), course.getId());
+        // 대기 중에 같은 시간대 강좌를 신청
+        enrollmentService.enroll(conflicted.getId(), sameTime.getId());
+
+        enrollmentService.cancel(seat.getId());
+
+        assertThat(awaitResolved(nextEntry.getId()).getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        WaitlistResponse skipped = waitlistService.getEntry(conflictedEntry.getId());
+        assertThat(skipped.getStatus()).isEqualTo(WaitlistStatus.SKIPPED);
+        assertThat(skipped.getReason()).contains("시간");
+    }
+
+    @Test
+    void 대기자가_있으면_빈자리를_직접_신청에_내주지_않고_승격이_실패해도_다시_시도한다() throws InterruptedException {
+        Student holder = createStudent("202400001", "학생202400001");
+        Student waiter = createStudent("202400002", "학생202400002");
+        Student outsider = createStudent("202400003", "학생202400003");
+        Course course = createCourse("자료구조", "CS001", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        EnrollmentResponse seat = enrollmentService.enroll(holder.getId(), course.getId());
+        WaitlistResponse entry = waitlistService.join(waiter.getId(), course.getId());
+
+        // 대기 행 락을 잡아 두어 승격기가 락 대기 시간 초과로 실패하게 만든다
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Thread blocker = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            waitlistRepository.findByIdWithLock(entry.getId());
+            locked.countDown();
+            awaitQuietly(release);
+        }));
+        blocker.start();
+        locked.await();
+
+        enrollmentService.cancel(seat.getId());
+
+        // 빈자리가 생겼어도 대기자가 먼저: 직접 신청은 거절되고 대기 등록은 뒤 순번으로 받는다
+        assertThatThrownBy(() -> enrollmentService.enroll(outsider.getId(), course.getId()))
+                .isInstanceOf(CapacityExceededException.class);
+        assertThat(waitlistService.join(outsider.getId(), course.getId()).getPosition()).isEqualTo(2);
+
+        Thread.sleep(LOCK_TIMEOUT_MS * 3);
+        assertThat(waitlistService.getEntry(entry.getId()).getStatus()).isEqualTo(WaitlistStatus.WAITING);
+        release.countDown();
+        blocker.join();
+
+        assertThat(awaitResolved(entry.getId()).getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        assertThat(enrollmentRepository.existsByStudentIdAndCourseId(waiter.getId(), course.getId())).isTrue();
+        assertThat(enrollmentRepository.existsByStudentIdAndCourseId(outsider.getId(), course.getId())).isFalse();
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolled()).isEqualTo(1);
+    }
+
+    @Test
+    void 직접_신청이_좌석_카운터를_쥐고_있어도_승격은_빈자리를_채운다() throws InterruptedException {
+        Student holder = createStudent("202400001", "학생202400001");
+        Student waiter = createStudent("202400002", "학생202400002");
+        Student outsider = createStudent("202400003", "학생202400003");
+        Course course = createCourse("자료구조", "CS001", 3, 1, DayOfWeek.MON, LocalTime.of(9, 0));
+
+        EnrollmentResponse seat = enrollmentService.enroll(holder.getId(), course.getId());
+        WaitlistResponse entry = waitlistService.join(waiter.getId(), course.getId());
+
+        // 승격기가 대기 행 락에서 기다리게 해 두고 취소
+        CountDownLatch entryLocked = new CountDownLatch(1);
+        CountDownLatch releaseEntry = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Thread blocker = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            waitlistRepository.findByIdWithLock(entry.getId());
+            entryLocked.countDown();
+            awaitQuietly(releaseEntry);
+        }));
+        blocker.start();
+        entryLocked.await();
+        enrollmentService.cancel(seat.getId());
+
+        // 대기자 확인에서 거절되기 전의 직접 신청처럼 반환된 카운터 좌석을 쥐고 진행 중인 트랜잭션
+        CountDownLatch reserved = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread inFlight = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            seatCounter.reserve(course.getId());
+            reserved.countDown();
+            awaitQuietly(finish);
+            status.setRollbackOnly();
+        }));
+        inFlight.start();
+        reserved.await();
+
+        releaseEntry.countDown();
+        blocker.join();
+
+        // 직접 신청이 끝나기 전에도 승격은 DB 정원으로 빈자리를 확인해 채운다
+        assertThat(awaitResolved(entry.getId()).getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+        finish.countDown();
+        inFlight.join();
+
+        assertThat(courseRepository.findById(course.getId()).orElseThrow().getEnrolled()).isEqualTo(1);
+        assertThatThrownBy(() -> enrollmentService.enroll(outsider.getId(), course.getId()))
+                .isInstanceOf(CapacityExceededException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WaitlistResponse awaitResolved(Long entryId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROMOTION_TIMEOUT_MS;
+        WaitlistResponse entry = waitlistService.getEntry(entryId);
+        while (entry.getStatus() == WaitlistStatus.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            entry = waitlistService.getEntry(entryId);
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,107 @@
+package com.musinsa.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.musinsa.course.domain.Course;
+import com.musinsa.course.domain.Student;
+import com.musinsa.course.dto.CourseResponse;
+import com.musinsa.course.dto.HotCourseResponse;
+import com.musinsa.course.repository.CourseRepository;
+import com.musinsa.course.repository.EnrollmentRepository;
+import com.musinsa.course.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(properties = {"course.warm-up.enabled=true", "course.warm-up.iterations=20"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class WarmUpTest {
+
+    @Autowired
+    private DataInitializer dataInitializer;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseContentionTracker contentionTracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EnrollmentMetrics metrics;
+
+    @Test
+    void 워밍업은_준비_완료_전에_실행되고_데이터와_지표를_남기지_않는다() {
+        assertThat(dataInitializer.isReady()).isTrue();
+        assertThat(meterRegistry.find("startup.warmup").timer().count()).isEqualTo(1);
+
+        assertThat(enrollmentRepository.count()).isZero();
+        assertThat(courseRepository.findAll()).extracting(Course::getEnrolled).containsOnly(0);
+        assertThat(courseService.getAllCourses()).extracting(CourseResponse::getEnrolled).containsOnly(0);
+        assertThat(studentService.findCreditMismatches()).isEmpty();
+
+        assertThat(meterRegistry.find("enrollment.stage").tags("operation", "enroll", "stage", "insert")
+                .timer().count()).isZero();
+        assertThat(contentionTracker.getHottest(10)).isEmpty();
+    }
+
+    @Test
+    void 워밍업_후에도_좌석_카운터와_강좌_목록은_실제_신청을_그대로_반영한다() {
+        Student student = studentRepository.findAllBy(PageRequest.of(0, 1)).getContent().get(0);
+        CourseResponse target = courseService.getAllCourses().get(0);
+
+        enrollmentService.enroll(student.getId(), target.getId());
+
+        Course updated = courseRepository.findById(target.getId()).orElseThrow();
+        assertThat(updated.getEnrolled()).isEqualTo(1);
+        assertThat(courseService.getCourseById(target.getId()).getEnrolled()).isEqualTo(1);
+    }
+
+    @Test
+    void 워밍업의_기록_중단은_워밍업_스레드에만_적용된다() throws Exception {
+        Long courseId = courseService.getAllCourses().get(0).getId();
+        metrics.suppressOnCurrentThread();
+        contentionTracker.suppressOnCurrentThread();
+        try {
+            metrics.lap(EnrollmentMetrics.Stage.INSERT, System.nanoTime());
+            contentionTracker.lock(courseId, () -> Optional.of(courseId));
+
+            // 워밍업 도중 들어온 실제 요청 스레드
+            Thread request = new Thread(() -> {
+                metrics.lap(EnrollmentMetrics.Stage.INSERT, System.nanoTime());
+                contentionTracker.lock(courseId, () -> Optional.of(courseId));
+            });
+            request.start();
+            request.join();
+        } finally {
+            metrics.resumeOnCurrentThread();
+            contentionTracker.resumeOnCurrentThread();
+        }
+
+        assertThat(meterRegistry.find("enrollment.stage").tags("operation", "enroll", "stage", "insert")
+                .timer().count()).isEqualTo(1);
+        assertThat(contentionTracker.getHottest(10)).extracting(HotCourseResponse::getAcquisitions)
+                .containsExactly(1L);
+    }
+}